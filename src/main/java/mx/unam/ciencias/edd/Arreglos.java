@@ -1,12 +1,696 @@
 package mx.unam.ciencias.edd;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Clase para ordenar y buscar arreglos genéricos.
  */
 public class Arreglos {
 
+    /* Tamaño debajo del cual los intervalos se ordenan por inserción. */
+    private static final int UMBRAL_INSERCION = 16;
+    /* Tamaño a partir del cual el pivote es la novena de Tukey. */
+    private static final int UMBRAL_NOVENA = 128;
+    /* Elementos que puede mover una inserción parcial antes de rendirse. */
+    private static final int LIMITE_INSERCION_PARCIAL = 8;
+
+    /* Tamaño debajo del cual los intervalos de primitivos enteros se ordenan
+     * con una red de ordenamiento. */
+    private static final int TAMANO_RED = 32;
+    /* Las redes de ordenamiento para cada tamaño hasta TAMANO_RED, como
+     * pares consecutivos de índices a comparar e intercambiar. */
+    private static final int[][] REDES = generaRedes(TAMANO_RED);
+
+    /* Bits por dígito en RadixSort. */
+    private static final int BITS_DIGITO = 8;
+    /* Número de cubetas por dígito en RadixSort. */
+    private static final int CUBETAS = 1 << BITS_DIGITO;
+
+    /* Tamaño por omisión debajo del cual los ordenamientos paralelos son
+     * secuenciales. */
+    private static final int UMBRAL_PARALELO = 1 << 13;
+    /* Cubetas por hilo en SampleSort, para repartir mejor el trabajo. */
+    private static final int CUBETAS_POR_HILO = 4;
+    /* Elementos de la muestra por cada cubeta en SampleSort. */
+    private static final int SOBREMUESTREO = 16;
+
+    /* Tarea para QuickSort paralelo sobre el intervalo [ini, fin]. */
+    private static class QuickSortParalelo<T> extends RecursiveAction {
+
+        /* Versión para serialización; las tareas no se serializan. */
+        private static final long serialVersionUID = 1L;
+
+        /* El arreglo. */
+        private T[] a;
+        /* El comparador. */
+        private Comparator<T> c;
+        /* El inicio del intervalo. */
+        private int ini;
+        /* El fin del intervalo. */
+        private int fin;
+        /* Si a[ini-1] no es un pivote. */
+        private boolean izquierdo;
+        /* Los niveles que quedan antes de cambiar a HeapSort. */
+        private int limite;
+        /* El tamaño debajo del cual se ordena secuencialmente. */
+        private int umbral;
+
+        /* Construye la tarea para un intervalo. */
+        private QuickSortParalelo(T[] a, Comparator<T> c, int ini, int fin,
+                                  boolean izquierdo, int limite, int umbral) {
+            this.a = a;
+            this.c = c;
+            this.ini = ini;
+            this.fin = fin;
+            this.izquierdo = izquierdo;
+            this.limite = limite;
+            this.umbral = umbral;
+        }
+
+        /* Parte el intervalo y ordena las dos partes en paralelo. */
+        @Override protected void compute() {
+            if (fin - ini + 1 <= umbral || limite == 0) {
+                quickSort(a, c, ini, fin, izquierdo, limite);
+                return;
+            }
+            eligePivote(a, c, ini, fin);
+            if (!izquierdo && c.compare(a[ini-1], a[ini]) == 0) {
+                int p = particionIzquierda(a, c, ini, fin);
+                new QuickSortParalelo<T>(a, c, p + 1, fin, false,
+                                         limite - 1, umbral).compute();
+                return;
+            }
+            int r = particionDerecha(a, c, ini, fin);
+            int p = r < 0 ? ~r : r;
+            invokeAll(new QuickSortParalelo<T>(a, c, ini, p - 1, izquierdo,
+                                               limite - 1, umbral),
+                      new QuickSortParalelo<T>(a, c, p + 1, fin, false,
+                                               limite - 1, umbral));
+        }
+    }
+
+    /* Tarea para MergeSort paralelo: ordena [ini, fin) de origen y deja el
+     * resultado en destino. Ambos arreglos empiezan con el mismo contenido en
+     * el intervalo, y origen se usa como espacio de trabajo. */
+    private static class MergeSortParalelo<T> extends RecursiveAction {
+
+        /* Versión para serialización; las tareas no se serializan. */
+        private static final long serialVersionUID = 1L;
+
+        /* El arreglo de trabajo. */
+        private T[] origen;
+        /* El arreglo donde queda el resultado. */
+        private T[] destino;
+        /* El comparador. */
+        private Comparator<T> c;
+        /* El inicio del intervalo (inclusivo). */
+        private int ini;
+        /* El fin del intervalo (exclusivo). */
+        private int fin;
+        /* El tamaño debajo del cual se ordena secuencialmente. */
+        private int umbral;
+
+        /* Construye la tarea para un intervalo. */
+        private MergeSortParalelo(T[] origen, T[] destino, Comparator<T> c,
+                                  int ini, int fin, int umbral) {
+            this.origen = origen;
+            this.destino = destino;
+            this.c = c;
+            this.ini = ini;
+            this.fin = fin;
+            this.umbral = umbral;
+        }
+
+        /* Ordena las mitades en paralelo y las mezcla en paralelo. */
+        @Override protected void compute() {
+            if (fin - ini <= umbral) {
+                mergeSort(destino, origen, c, ini, fin);
+                return;
+            }
+            int m = (ini + fin) >>> 1;
+            invokeAll(new MergeSortParalelo<T>(destino, origen, c,
+                                               ini, m, umbral),
+                      new MergeSortParalelo<T>(destino, origen, c,
+                                               m, fin, umbral));
+            new MezclaParalela<T>(origen, destino, c, ini, m, m, fin,
+                                  ini, umbral).compute();
+        }
+    }
+
+    /* Tarea que mezcla de forma estable los intervalos ordenados [i1, f1) y
+     * [i2, f2) de origen, escribiéndolos en destino a partir de k. */
+    private static class MezclaParalela<T> extends RecursiveAction {
+
+        /* Versión para serialización; las tareas no se serializan. */
+        private static final long serialVersionUID = 1L;
+
+        /* El arreglo con los intervalos. */
+        private T[] origen;
+        /* El arreglo donde se escribe la mezcla. */
+        private T[] destino;
+        /* El comparador. */
+        private Comparator<T> c;
+        /* Los límites de los intervalos. */
+        private int i1, f1, i2, f2;
+        /* Dónde empieza la mezcla en destino. */
+        private int k;
+        /* El tamaño debajo del cual se mezcla secuencialmente. */
+        private int umbral;
+
+        /* Construye la tarea para dos intervalos. */
+        private MezclaParalela(T[] origen, T[] destino, Comparator<T> c,
+                               int i1, int f1, int i2, int f2,
+                               int k, int umbral) {
+            this.origen = origen;
+            this.destino = destino;
+            this.c = c;
+            this.i1 = i1;
+            this.f1 = f1;
+            this.i2 = i2;
+            this.f2 = f2;
+            this.k = k;
+            this.umbral = umbral;
+        }
+
+        /* Parte la mezcla en la mediana del intervalo más grande. */
+        @Override protected void compute() {
+            int n1 = f1 - i1;
+            int n2 = f2 - i2;
+            if (n1 + n2 <= umbral) {
+                mezcla(origen, destino, c, i1, f1, i2, f2, k);
+                return;
+            }
+            int m1, m2;
+            if (n1 >= n2) {
+                m1 = (i1 + f1) >>> 1;
+                m2 = i2;
+                int f = f2;
+                while (m2 < f) {
+                    int m = (m2 + f) >>> 1;
+                    if (c.compare(origen[m], origen[m1]) < 0)
+                        m2 = m + 1;
+                    else
+                        f = m;
+                }
+                int p = k + (m1 - i1) + (m2 - i2);
+                destino[p] = origen[m1];
+                invokeAll(new MezclaParalela<T>(origen, destino, c, i1, m1,
+                                                i2, m2, k, umbral),
+                          new MezclaParalela<T>(origen, destino, c, m1 + 1, f1,
+                                                m2, f2, p + 1, umbral));
+            } else {
+                m2 = (i2 + f2) >>> 1;
+                m1 = i1;
+                int f = f1;
+                while (m1 < f) {
+                    int m = (m1 + f) >>> 1;
+                    if (c.compare(origen[m2], origen[m]) < 0)
+                        f = m;
+                    else
+                        m1 = m + 1;
+                }
+                int p = k + (m1 - i1) + (m2 - i2);
+                destino[p] = origen[m2];
+                invokeAll(new MezclaParalela<T>(origen, destino, c, i1, m1,
+                                                i2, m2, k, umbral),
+                          new MezclaParalela<T>(origen, destino, c, m1, f1,
+                                                m2 + 1, f2, p + 1, umbral));
+            }
+        }
+    }
+
+    /* Longitud mínima de corrida del MergeSort natural. */
+    private static final int CORRIDA_MINIMA = 32;
+    /* Victorias seguidas a partir de las cuales una mezcla galopa. */
+    private static final int MINIMO_GALOPE = 7;
+
+    /* Pila de corridas del MergeSort natural: detecta corridas ordenadas y las
+     * mezcla manteniendo las invariantes de TimSort en sus longitudes, así que
+     * la pila nunca tiene más de O(log n) corridas. */
+    private static class CorridasNaturales<T> {
+
+        /* El arreglo. */
+        private T[] a;
+        /* El comparador. */
+        private Comparator<T> c;
+        /* El arreglo temporal para las mezclas. */
+        private T[] tmp;
+        /* Dónde empieza el espacio disponible en el arreglo temporal. */
+        private int t0;
+        /* Dónde empieza cada corrida. */
+        private int[] base;
+        /* La longitud de cada corrida. */
+        private int[] largo;
+        /* Número de corridas en la pila. */
+        private int pila;
+        /* Las estadísticas, si el comparador está medido. */
+        private Estadisticas e;
+
+        /* Construye la pila para el arreglo, usando tmp a partir de t0. */
+        private CorridasNaturales(T[] a, Comparator<T> c, T[] tmp, int t0) {
+            this.a = a;
+            this.c = c;
+            this.tmp = tmp;
+            this.t0 = t0;
+            base = new int[49];
+            largo = new int[49];
+            e = estadisticas(c);
+        }
+
+        /* Ordena el intervalo [ini, fin). */
+        private void ordena(int ini, int fin) {
+            int n = fin - ini;
+            if (n < 2)
+                return;
+            int minima = corridaMinima(n);
+            int i = ini;
+            while (i < fin) {
+                int r = corrida(i, fin);
+                if (r < minima) {
+                    int f = Math.min(minima, fin - i);
+                    insercionBinaria(i, i + f, i + r);
+                    r = f;
+                }
+                base[pila] = i;
+                largo[pila] = r;
+                pila++;
+                if (e != null)
+                    e.profundidad(pila);
+                colapsa();
+                i += r;
+            }
+            while (pila > 1) {
+                int k = pila - 2;
+                if (k > 0 && largo[k-1] < largo[k+1])
+                    k--;
+                mezclaEn(k);
+            }
+        }
+
+        /* Calcula la longitud mínima de corrida para n elementos, de manera
+         * que n entre ella sea una potencia de dos o un poco menos. */
+        private int corridaMinima(int n) {
+            int r = 0;
+            while (n >= CORRIDA_MINIMA) {
+                r |= n & 1;
+                n >>= 1;
+            }
+            return n + r;
+        }
+
+        /* Regresa la longitud de la corrida que empieza en i, volteándola si
+         * es estrictamente descendente. */
+        private int corrida(int i, int fin) {
+            int j = i + 1;
+            if (j == fin)
+                return 1;
+            if (c.compare(a[j], a[i]) < 0) {
+                while (j + 1 < fin && c.compare(a[j+1], a[j]) < 0)
+                    j++;
+                for (int k = i, l = j; k < l; k++, l--)
+                    intercambia(a, k, l);
+                if (e != null)
+                    e.intercambios((j - i + 1) / 2);
+            } else {
+                while (j + 1 < fin && c.compare(a[j+1], a[j]) >= 0)
+                    j++;
+            }
+            return j - i + 1;
+        }
+
+        /* Ordena [ini, fin) por inserción binaria; [ini, inicio) ya está
+         * ordenado. */
+        private void insercionBinaria(int ini, int fin, int inicio) {
+            for (int i = inicio; i < fin; i++) {
+                T x = a[i];
+                int p = ini + galopa(x, a, ini, i - ini, false, false);
+                System.arraycopy(a, p, a, p + 1, i - p);
+                a[p] = x;
+                if (e != null)
+                    e.movimientos(i - p + 1);
+            }
+        }
+
+        /* Mezcla corridas hasta que se cumplen las invariantes de la pila. */
+        private void colapsa() {
+            while (pila > 1) {
+                int k = pila - 2;
+                if ((k > 0 && largo[k-1] <= largo[k] + largo[k+1]) ||
+                    (k > 1 && largo[k-2] <= largo[k-1] + largo[k])) {
+                    if (largo[k-1] < largo[k+1])
+                        k--;
+                } else if (largo[k] > largo[k+1]) {
+                    break;
+                }
+                mezclaEn(k);
+            }
+        }
+
+        /* Mezcla las corridas k y k+1 de la pila. */
+        private void mezclaEn(int k) {
+            int b1 = base[k];
+            int l1 = largo[k];
+            int b2 = base[k+1];
+            int l2 = largo[k+1];
+            largo[k] = l1 + l2;
+            if (k == pila - 3) {
+                base[k+1] = base[k+2];
+                largo[k+1] = largo[k+2];
+            }
+            pila--;
+
+            /* Los elementos al inicio de la primera corrida que no son mayores
+             * que el primero de la segunda ya están en su lugar. */
+            int d = galopa(a[b2], a, b1, l1, false, false);
+            b1 += d;
+            l1 -= d;
+            if (l1 == 0)
+                return;
+            /* Y también los del final de la segunda corrida que no son menores
+             * que el último de la primera. */
+            l2 = galopa(a[b1 + l1 - 1], a, b2, l2, true, true);
+            if (l2 == 0)
+                return;
+            /* Cada elemento se escribe una vez, más la copia de la corrida
+             * corta al arreglo temporal. */
+            if (e != null)
+                e.movimientos(l1 + l2 + Math.min(l1, l2));
+
+            if (l1 <= l2)
+                mezclaBaja(b1, l1, b2, l2);
+            else
+                mezclaAlta(b1, l1, b2, l2);
+        }
+
+        /* Mezcla de izquierda a derecha, copiando la primera corrida (la más
+         * corta) al arreglo temporal. */
+        private void mezclaBaja(int b1, int l1, int b2, int l2) {
+            System.arraycopy(a, b1, tmp, t0, l1);
+            int i = t0, fi = t0 + l1;
+            int j = b2, fj = b2 + l2;
+            int k = b1;
+            int ganaA = 0, ganaB = 0;
+            while (i < fi && j < fj) {
+                if (c.compare(a[j], tmp[i]) < 0) {
+                    a[k++] = a[j++];
+                    ganaA = 0;
+                    if (++ganaB >= MINIMO_GALOPE && j < fj) {
+                        int m = galopa(tmp[i], a, j, fj - j, true, false);
+                        System.arraycopy(a, j, a, k, m);
+                        k += m;
+                        j += m;
+                        ganaB = 0;
+                    }
+                } else {
+                    a[k++] = tmp[i++];
+                    ganaB = 0;
+                    if (++ganaA >= MINIMO_GALOPE && i < fi) {
+                        int m = galopa(a[j], tmp, i, fi - i, false, false);
+                        System.arraycopy(tmp, i, a, k, m);
+                        k += m;
+                        i += m;
+                        ganaA = 0;
+                    }
+                }
+            }
+            System.arraycopy(tmp, i, a, k, fi - i);
+        }
+
+        /* Mezcla de derecha a izquierda, copiando la segunda corrida (la más
+         * corta) al arreglo temporal. */
+        private void mezclaAlta(int b1, int l1, int b2, int l2) {
+            System.arraycopy(a, b2, tmp, t0, l2);
+            int i = b1 + l1 - 1;
+            int j = t0 + l2 - 1;
+            int k = b2 + l2 - 1;
+            int ganaA = 0, ganaB = 0;
+            while (i >= b1 && j >= t0) {
+                if (c.compare(tmp[j], a[i]) < 0) {
+                    a[k--] = a[i--];
+                    ganaB = 0;
+                    if (++ganaA >= MINIMO_GALOPE && i >= b1) {
+                        int u = b1 + galopa(tmp[j], a, b1, i - b1 + 1,
+                                            false, true);
+                        int m = i + 1 - u;
+                        System.arraycopy(a, u, a, k - m + 1, m);
+                        k -= m;
+                        i -= m;
+                        ganaA = 0;
+                    }
+                } else {
+                    a[k--] = tmp[j--];
+                    ganaA = 0;
+                    if (++ganaB >= MINIMO_GALOPE && j >= t0) {
+                        int u = t0 + galopa(a[i], tmp, t0, j - t0 + 1,
+                                            true, true);
+                        int m = j + 1 - u;
+                        System.arraycopy(tmp, u, a, k - m + 1, m);
+                        k -= m;
+                        j -= m;
+                        ganaB = 0;
+                    }
+                }
+            }
+            System.arraycopy(tmp, t0, a, k - (j - t0), j - t0 + 1);
+        }
+
+        /* Regresa cuántos elementos del intervalo ordenado [b, b+n) de x son
+         * menores (si estricto) o menores o iguales (si no) que la llave,
+         * galopando desde el inicio o desde el final del intervalo. */
+        private int galopa(T llave, T[] x, int b, int n,
+                           boolean estricto, boolean desdeFinal) {
+            int lo, hi;
+            if (!desdeFinal) {
+                lo = 0;
+                int d = 1;
+                while (d <= n && antes(x[b + d - 1], llave, estricto)) {
+                    lo = d;
+                    d = d <= n / 2 ? 2 * d : n + 1;
+                }
+                hi = Math.min(d - 1, n);
+            } else {
+                hi = n;
+                int d = 1;
+                while (d <= n && !antes(x[b + n - d], llave, estricto)) {
+                    hi = n - d;
+                    d = d <= n / 2 ? 2 * d : n + 1;
+                }
+                lo = d <= n ? n - d + 1 : 0;
+            }
+            while (lo < hi) {
+                int m = (lo + hi) >>> 1;
+                if (antes(x[b + m], llave, estricto))
+                    lo = m + 1;
+                else
+                    hi = m;
+            }
+            return lo;
+        }
+
+        /* Nos dice si e va antes que la llave. */
+        private boolean antes(T e, T llave, boolean estricto) {
+            int r = c.compare(e, llave);
+            return estricto ? r < 0 : r <= 0;
+        }
+    }
+
+    /* Comparador que cuenta las comparaciones en unas estadísticas; los
+     * motores de ordenamiento lo reconocen para reportar también sus
+     * intercambios, movimientos y profundidad. */
+    private static class Medidor<T> implements Comparator<T> {
+        /* El comparador medido. */
+        private Comparator<T> c;
+        /* Las estadísticas. */
+        private Estadisticas estadisticas;
+        /* El límite de profundidad con el que empezó QuickSort. */
+        private int limite;
+
+        /* Construye un medidor para el comparador. */
+        private Medidor(Comparator<T> c, Estadisticas estadisticas,
+                        int limite) {
+            this.c = c;
+            this.estadisticas = estadisticas;
+            this.limite = limite;
+        }
+
+        /* Cuenta y hace la comparación. */
+        @Override public int compare(T a, T b) {
+            estadisticas.comparacion();
+            return c.compare(a, b);
+        }
+
+        /* Registra la profundidad que corresponde al límite que queda. */
+        private void profundidad(int queda) {
+            estadisticas.profundidad(limite - queda);
+        }
+    }
+
+    /* Árbol de perdedores para mezclar k fuentes ordenadas: cada nodo
+     * interno guarda la fuente que perdió el partido en ese nodo, y arbol[0]
+     * la ganadora. Sacar un elemento sólo vuelve a jugar los partidos del
+     * camino de la ganadora a la raíz, así que cuesta log k comparaciones.
+     * Los empates los gana la fuente de menor índice, así que la mezcla es
+     * estable. */
+    private static abstract class ArbolPerdedores {
+        /* Número de fuentes. */
+        protected int k;
+        /* Los perdedores de cada partido; arbol[0] es la ganadora. */
+        protected int[] arbol;
+        /* La posición actual de cada fuente. */
+        protected int[] posicion;
+        /* La longitud de cada fuente. */
+        protected int[] longitud;
+
+        /* Inicializa el árbol para fuentes de las longitudes recibidas. */
+        protected ArbolPerdedores(int[] longitud) {
+            k = longitud.length;
+            this.longitud = longitud;
+            posicion = new int[k];
+            arbol = new int[Math.max(k, 1)];
+        }
+
+        /* Juega el torneo inicial; las subclases lo llaman al terminar de
+         * inicializarse, porque necesita compara. */
+        protected void construye() {
+            int[] ganadores = new int[2 * k];
+            for (int i = 0; i < k; i++)
+                ganadores[k + i] = i;
+            for (int n = k - 1; n >= 1; n--) {
+                int a = ganadores[2 * n];
+                int b = ganadores[2 * n + 1];
+                boolean g = gana(a, b);
+                ganadores[n] = g ? a : b;
+                arbol[n] = g ? b : a;
+            }
+            arbol[0] = k > 1 ? ganadores[1] : 0;
+        }
+
+        /* Compara el elemento actual de las fuentes i y j, no agotadas. */
+        protected abstract int compara(int i, int j);
+
+        /* Nos dice si la fuente i le gana a la fuente j. */
+        private boolean gana(int i, int j) {
+            if (posicion[j] == longitud[j])
+                return true;
+            if (posicion[i] == longitud[i])
+                return false;
+            int r = compara(i, j);
+            return r < 0 || (r == 0 && i < j);
+        }
+
+        /* Regresa la fuente con el siguiente elemento, o -1 si todas las
+         * fuentes están agotadas. */
+        protected int ganadora() {
+            int g = arbol[0];
+            return k > 0 && posicion[g] < longitud[g] ? g : -1;
+        }
+
+        /* Avanza la fuente ganadora y vuelve a jugar su camino. */
+        protected void avanza() {
+            int g = arbol[0];
+            posicion[g]++;
+            for (int n = (g + k) / 2; n >= 1; n /= 2) {
+                if (gana(arbol[n], g)) {
+                    int t = arbol[n];
+                    arbol[n] = g;
+                    g = t;
+                }
+            }
+            arbol[0] = g;
+        }
+
+        /* Regresa las longitudes de los arreglos recibidos. */
+        protected static int[] longitudes(Object[] arreglos) {
+            int[] r = new int[arreglos.length];
+            for (int i = 0; i < r.length; i++)
+                r[i] = Array.getLength(arreglos[i]);
+            return r;
+        }
+    }
+
+    /* Árbol de perdedores e iterador para arreglos genéricos. */
+    private static class MezclaK<T> extends ArbolPerdedores
+        implements Iterator<T> {
+        /* Los arreglos a mezclar. */
+        private T[][] a;
+        /* El comparador. */
+        private Comparator<T> c;
+
+        /* Inicializa la mezcla. */
+        private MezclaK(T[][] a, Comparator<T> c) {
+            super(longitudes(a));
+            this.a = a;
+            this.c = c;
+            construye();
+        }
+
+        /* Compara el elemento actual de las fuentes i y j. */
+        @Override protected int compara(int i, int j) {
+            return c.compare(a[i][posicion[i]], a[j][posicion[j]]);
+        }
+
+        /* Nos dice si hay un elemento siguiente. */
+        @Override public boolean hasNext() {
+            return ganadora() != -1;
+        }
+
+        /* Nos da el elemento siguiente. */
+        @Override public T next() {
+            int g = ganadora();
+            if (g == -1)
+                throw new NoSuchElementException();
+            T e = a[g][posicion[g]];
+            avanza();
+            return e;
+        }
+    }
+
+    /* Árbol de perdedores para arreglos de enteros. */
+    private static class MezclaKEnteros extends ArbolPerdedores {
+        /* Los arreglos a mezclar. */
+        private int[][] a;
+
+        /* Inicializa la mezcla. */
+        private MezclaKEnteros(int[][] a) {
+            super(longitudes(a));
+            this.a = a;
+            construye();
+        }
+
+        /* Compara el elemento actual de las fuentes i y j. */
+        @Override protected int compara(int i, int j) {
+            return Integer.compare(a[i][posicion[i]], a[j][posicion[j]]);
+        }
+    }
+
+    /* Árbol de perdedores para arreglos de enteros largos. */
+    private static class MezclaKLargos extends ArbolPerdedores {
+        /* Los arreglos a mezclar. */
+        private long[][] a;
+
+        /* Inicializa la mezcla. */
+        private MezclaKLargos(long[][] a) {
+            super(longitudes(a));
+            this.a = a;
+            construye();
+        }
+
+        /* Compara el elemento actual de las fuentes i y j. */
+        @Override protected int compara(int i, int j) {
+            return Long.compare(a[i][posicion[i]], a[j][posicion[j]]);
+        }
+    }
+
     /* Constructor privado para evitar instanciación. */
     private Arreglos() {}
     
@@ -23,40 +707,305 @@ public class Arreglos {
 
     }
 
-    private static <T> void quickSort(T[] a, Comparator <T> c, int ini, int fin) {
-        // Aquí va su código
-        if (fin <= ini)
-            return;
+    /*
+     * QuickSort que derrota patrones: el pivote es la mediana de tres (o la
+     * novena de Tukey en intervalos grandes), los intervalos chicos se ordenan
+     * por inserción, las particiones desbalanceadas se rompen revolviendo
+     * algunos elementos, y los intervalos que ya estaban particionados se
+     * intentan terminar con inserción. Siempre recursa sobre la parte más
+     * chica, así que la pila es O(log n), y cambia a HeapSort si la recursión
+     * pasa de 2 log2(n) niveles, así que el peor caso es O(n log n).
+     */
+    private static <T> void quickSort(T[] a, Comparator<T> c, int ini, int fin) {
+        quickSort(a, c, ini, fin, true, limiteProfundidad(fin - ini + 1));
+    }
 
-        int i = ini + 1;
-        int j = fin;
+    /* Motor de QuickSort; izquierdo indica que a[ini-1] no es un pivote, y
+     * limite cuántos niveles más puede bajar antes de cambiar a HeapSort. */
+    private static <T> void quickSort(T[] a, Comparator<T> c, int ini, int fin,
+                                      boolean izquierdo, int limite) {
+        while (true) {
+            int n = fin - ini + 1;
+            if (n < UMBRAL_INSERCION) {
+                insercion(a, c, ini, fin);
+                return;
+            }
+            if (limite-- == 0) {
+                heapSort(a, c, ini, fin);
+                return;
+            }
+            mideProfundidad(c, limite);
+
+            eligePivote(a, c, ini, fin);
+
+            /* Si el pivote es igual a su predecesor, los iguales ya están en
+             * su lugar y no hay que volver a visitarlos. */
+            if (!izquierdo && c.compare(a[ini-1], a[ini]) == 0) {
+                ini = particionIzquierda(a, c, ini, fin) + 1;
+                continue;
+            }
+
+            int r = particionDerecha(a, c, ini, fin);
+            boolean yaParticionado = r < 0;
+            int p = yaParticionado ? ~r : r;
+            int izq = p - ini;
+            int der = fin - p;
+
+            if (izq < n / 8 || der < n / 8) {
+                mideIntercambios(c, rompePatrones(a, ini, p - 1) +
+                                    rompePatrones(a, p + 1, fin));
+            } else if (yaParticionado &&
+                       insercionParcial(a, c, ini, p - 1) &&
+                       insercionParcial(a, c, p + 1, fin)) {
+                return;
+            }
+
+            if (izq < der) {
+                quickSort(a, c, ini, p - 1, izquierdo, limite);
+                ini = p + 1;
+                izquierdo = false;
+            } else {
+                quickSort(a, c, p + 1, fin, false, limite);
+                fin = p - 1;
+            }
+        }
+    }
+
+    /* Regresa el límite de profundidad de IntroSort para n elementos:
+     * 2 log2(n). */
+    private static int limiteProfundidad(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n | 1));
+    }
+
+    /* Ordena el intervalo [ini, fin] usando HeapSort. */
+    private static <T> void heapSort(T[] a, Comparator<T> c, int ini, int fin) {
+        int n = fin - ini + 1;
+        long m = 0;
+        for (int i = n / 2 - 1; i >= 0; i--)
+            m += acomodaAbajo(a, c, ini, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            intercambia(a, ini, ini + k);
+            m += acomodaAbajo(a, c, ini, 0, k);
+        }
+        mideIntercambios(c, Math.max(n - 1, 0));
+        mideMovimientos(c, m);
+    }
+
+    /* Baja el elemento en la posición i del montículo máximo de n elementos
+     * que empieza en el índice base del arreglo; regresa cuántos elementos
+     * movió. */
+    private static <T> int
+    acomodaAbajo(T[] a, Comparator<T> c, int base, int i, int n) {
+        T e = a[base + i];
+        int m = 1;
+        int h;
+        while ((h = 2 * i + 1) < n) {
+            if (h + 1 < n && c.compare(a[base + h], a[base + h + 1]) < 0)
+                h++;
+            if (c.compare(e, a[base + h]) >= 0)
+                break;
+            a[base + i] = a[base + h];
+            i = h;
+            m++;
+        }
+        a[base + i] = e;
+        return m;
+    }
+
+    /* Deja en a[ini] la mediana de tres, o la novena si el intervalo es
+     * grande; en ambos casos hay un elemento mayor o igual al final. */
+    private static <T> void
+    eligePivote(T[] a, Comparator<T> c, int ini, int fin) {
+        int m = ini + (fin - ini + 1) / 2;
+        if (fin - ini + 1 > UMBRAL_NOVENA) {
+            ordenaTres(a, c, ini, m, fin);
+            ordenaTres(a, c, ini + 1, m - 1, fin - 1);
+            ordenaTres(a, c, ini + 2, m + 1, fin - 2);
+            ordenaTres(a, c, m - 1, m, m + 1);
+            intercambia(a, ini, m);
+            mideIntercambios(c, 1);
+        } else {
+            ordenaTres(a, c, m, ini, fin);
+        }
+    }
+
+    /* Ordena los elementos en los índices i, j y k. */
+    private static <T> void
+    ordenaTres(T[] a, Comparator<T> c, int i, int j, int k) {
+        int s = 0;
+        if (c.compare(a[j], a[i]) < 0) {
+            intercambia(a, i, j);
+            s++;
+        }
+        if (c.compare(a[k], a[j]) < 0) {
+            intercambia(a, j, k);
+            s++;
+            if (c.compare(a[j], a[i]) < 0) {
+                intercambia(a, i, j);
+                s++;
+            }
+        }
+        mideIntercambios(c, s);
+    }
 
+    /*
+     * Parte el intervalo alrededor de a[ini]; los elementos iguales al pivote
+     * quedan a la derecha. Regresa la posición final del pivote, o su
+     * complemento (~p) si no hubo que intercambiar nada.
+     */
+    private static <T> int
+    particionDerecha(T[] a, Comparator<T> c, int ini, int fin) {
+        T p = a[ini];
+        int i = ini;
+        int j = fin + 1;
+        while (c.compare(a[++i], p) < 0)
+            ;
+        if (i - 1 == ini)
+            while (i < j && c.compare(a[--j], p) >= 0)
+                ;
+        else
+            while (c.compare(a[--j], p) >= 0)
+                ;
+        boolean yaParticionado = i >= j;
+        int s = 1;
         while (i < j) {
-            if (c.compare(a[i], a[ini]) <= 0)
-                i++;
+            intercambia(a, i, j);
+            s++;
+            while (c.compare(a[++i], p) < 0)
+                ;
+            while (c.compare(a[--j], p) >= 0)
+                ;
+        }
+        int q = i - 1;
+        a[ini] = a[q];
+        a[q] = p;
+        mideIntercambios(c, s);
+        return yaParticionado ? ~q : q;
+    }
 
-            else if (c.compare(a[j], a[ini]) > 0)
-                j--;
+    /* Parte el intervalo alrededor de a[ini]; los elementos iguales al pivote
+     * quedan a la izquierda. Regresa la posición final del pivote. */
+    private static <T> int
+    particionIzquierda(T[] a, Comparator<T> c, int ini, int fin) {
+        T p = a[ini];
+        int i = ini;
+        int j = fin + 1;
+        while (c.compare(p, a[--j]) < 0)
+            ;
+        if (j == fin)
+            while (i < j && c.compare(p, a[++i]) >= 0)
+                ;
+        else
+            while (c.compare(p, a[++i]) >= 0)
+                ;
+        int s = 1;
+        while (i < j) {
+            intercambia(a, i, j);
+            s++;
+            while (c.compare(p, a[--j]) < 0)
+                ;
+            while (c.compare(p, a[++i]) >= 0)
+                ;
+        }
+        a[ini] = a[j];
+        a[j] = p;
+        mideIntercambios(c, s);
+        return j;
+    }
+
+    /* Intercambia algunos elementos del intervalo para romper patrones que
+     * producen particiones desbalanceadas; regresa cuántos intercambió. */
+    private static <T> int rompePatrones(T[] a, int ini, int fin) {
+        int n = fin - ini + 1;
+        if (n < UMBRAL_INSERCION)
+            return 0;
+        int d = n / 4;
+        intercambia(a, ini, ini + d);
+        intercambia(a, fin, fin - d);
+        if (n > UMBRAL_NOVENA) {
+            intercambia(a, ini + 1, ini + d + 1);
+            intercambia(a, ini + 2, ini + d + 2);
+            intercambia(a, fin - 1, fin - d - 1);
+            intercambia(a, fin - 2, fin - d - 2);
+            return 6;
+        }
+        return 2;
+    }
 
-            else if (c.compare(a[i], a[ini]) > 0 && c.compare(a[j], a[ini]) <= 0) {
-                T temp = a[i];
-                a[i++] = a[j];
-                a[j--] = temp;
+    /* Ordena por inserción el intervalo [ini, fin]. */
+    private static <T> void
+    insercion(T[] a, Comparator<T> c, int ini, int fin) {
+        long m = 0;
+        for (int i = ini + 1; i <= fin; i++) {
+            T e = a[i];
+            int j = i - 1;
+            while (j >= ini && c.compare(e, a[j]) < 0) {
+                a[j+1] = a[j];
+                j--;
             }
+            a[j+1] = e;
+            m += i - j;
         }
+        mideMovimientos(c, m);
+    }
 
-        if (c.compare(a[i], a[ini]) > 0) {
-            i--;
+    /* Intenta ordenar por inserción el intervalo [ini, fin]; se rinde y
+     * regresa false si hay que mover demasiados elementos. */
+    private static <T> boolean
+    insercionParcial(T[] a, Comparator<T> c, int ini, int fin) {
+        int movidos = 0;
+        for (int i = ini + 1; i <= fin; i++) {
+            T e = a[i];
+            int j = i - 1;
+            if (c.compare(e, a[j]) >= 0)
+                continue;
+            while (j >= ini && c.compare(e, a[j]) < 0) {
+                a[j+1] = a[j];
+                j--;
+            }
+            a[j+1] = e;
+            movidos += i - j - 1;
+            mideMovimientos(c, i - j);
+            if (movidos > LIMITE_INSERCION_PARCIAL)
+                return false;
         }
+        return true;
+    }
+
+    /* Intercambia dos elementos de un arreglo. */
+    private static <T> void intercambia(T[] a, int i, int j) {
+        T t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
 
-        T temp = a[ini];
-        a[ini] = a[i];
-        a[i] = temp;
+    /* Regresa las estadísticas del comparador si está medido, o null. Los
+     * motores avisan de sus intercambios, movimientos y profundidad una vez
+     * por partición, inserción o mezcla, así que sin medir sólo pagan esta
+     * revisión de tipo. */
+    private static Estadisticas estadisticas(Comparator<?> c) {
+        return c instanceof Medidor ? ((Medidor<?>)c).estadisticas : null;
+    }
 
-        quickSort(a, c, ini, i-1);
-        quickSort(a, c, i+1, fin);
+    /* Cuenta n intercambios si el comparador está medido. */
+    private static void mideIntercambios(Comparator<?> c, long n) {
+        Estadisticas e = estadisticas(c);
+        if (e != null)
+            e.intercambios(n);
+    }
 
+    /* Cuenta n movimientos si el comparador está medido. */
+    private static void mideMovimientos(Comparator<?> c, long n) {
+        Estadisticas e = estadisticas(c);
+        if (e != null)
+            e.movimientos(n);
+    }
 
+    /* Registra la profundidad de QuickSort que corresponde al límite que
+     * queda, si el comparador está medido. */
+    private static void mideProfundidad(Comparator<?> c, int limite) {
+        if (c instanceof Medidor)
+            ((Medidor<?>)c).profundidad(limite);
     }
 
     /**
@@ -70,85 +1019,2476 @@ public class Arreglos {
     }
 
     /**
-     * Ordena el arreglo recibido usando SelectionSort.
+     * Ordena el arreglo recibido usando QuickSort, acumulando en las
+     * estadísticas las comparaciones, intercambios, movimientos, la
+     * profundidad máxima y el tiempo que toma.
      * @param <T> tipo del que puede ser el arreglo.
      * @param arreglo el arreglo a ordenar.
-     * @param comparador el comparador para ordernar el arreglo.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param estadisticas las estadísticas donde se acumulan las medidas.
+     * @see Estadisticas
      */
     public static <T> void
-    selectionSort(T[] arreglo, Comparator<T> comparador) {
-        // Aquí va su código
-        int min;
-
-        for (int i = 0; i < (arreglo.length - 1); i++) {
-            min = i;
-            for (int j = i + 1; j < arreglo.length; j++) {
-                if (comparador.compare(arreglo[j], arreglo[min]) < 0) {
-                    min = j;
-                }
-            }
-
-            T temp = arreglo[i];
-            arreglo[i] = arreglo[min];
-            arreglo[min] = temp;
-        }
+    quickSort(T[] arreglo, Comparator<T> comparador,
+              Estadisticas estadisticas) {
+        int limite = limiteProfundidad(arreglo.length);
+        Medidor<T> m = new Medidor<T>(comparador, estadisticas, limite);
+        long t = System.nanoTime();
+        quickSort(arreglo, m, 0, arreglo.length - 1, true, limite);
+        estadisticas.nanosegundos(System.nanoTime() - t);
     }
 
     /**
-     * Ordena el arreglo recibido usando SelectionSort.
+     * Ordena el arreglo recibido usando QuickSort, acumulando en las
+     * estadísticas lo que hace.
      * @param <T> tipo del que puede ser el arreglo.
      * @param arreglo un arreglo cuyos elementos son comparables.
+     * @param estadisticas las estadísticas donde se acumulan las medidas.
+     * @see #quickSort(Object[],Comparator,Estadisticas)
      */
     public static <T extends Comparable<T>> void
-    selectionSort(T[] arreglo) {
-        selectionSort(arreglo, (a, b) -> a.compareTo(b));
+    quickSort(T[] arreglo, Estadisticas estadisticas) {
+        quickSort(arreglo, (a, b) -> a.compareTo(b), estadisticas);
     }
 
     /**
-     * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice
-     * del elemento en el arreglo, o -1 si no se encuentra.
+     * Ordena el arreglo recibido usando IntroSort: QuickSort que cambia a
+     * HeapSort en los intervalos donde la recursión pasa de
+     * 2&middot;log<sub>2</sub>(n) niveles. Garantiza O(n log n) comparaciones
+     * en el peor caso, y O(log n) de espacio extra. Es el mismo motor que usa
+     * {@link #quickSort(Object[],Comparator)}.
      * @param <T> tipo del que puede ser el arreglo.
-     * @param arreglo el arreglo dónde buscar.
-     * @param elemento el elemento a buscar.
-     * @param comparador el comparador para hacer la búsqueda.
-     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
      */
-    public static <T> int
-    busquedaBinaria(T[] arreglo, T elemento, Comparator<T> comparador) {
-        // Aquí va su código.
-        return busquedaBinaria(arreglo, elemento, comparador, 0, arreglo.length - 1);
+    public static <T> void
+    introSort(T[] arreglo, Comparator<T> comparador) {
+        int limite = limiteProfundidad(arreglo.length);
+        quickSort(arreglo, comparador, 0, arreglo.length - 1, true, limite);
     }
 
-    private static <T> int
-    busquedaBinaria(T[] a, T e, Comparator <T> c, int begin, int end) {
-        // Aquí va tu código
-        if (begin > end)
-            return -1;
-
-        int mid = begin + (end-begin) / 2;
-
-        if (c.compare(a[mid], e) == 0)
-            return mid;
-
-        else if (c.compare(a[mid], e) < 0)
-            return busquedaBinaria(a, e, c, mid + 1, end);
-
-        else
-            return busquedaBinaria(a, e, c, begin, mid - 1);
+    /**
+     * Ordena el arreglo recibido usando IntroSort.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void
+    introSort(T[] arreglo) {
+        introSort(arreglo, (a, b) -> a.compareTo(b));
+    }
 
+    /**
+     * Ordena el arreglo recibido usando IntroSort, acumulando en las
+     * estadísticas las comparaciones, intercambios, movimientos, la
+     * profundidad máxima y el tiempo que toma.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param estadisticas las estadísticas donde se acumulan las medidas.
+     * @see Estadisticas
+     */
+    public static <T> void
+    introSort(T[] arreglo, Comparator<T> comparador,
+              Estadisticas estadisticas) {
+        int limite = limiteProfundidad(arreglo.length);
+        Medidor<T> m = new Medidor<T>(comparador, estadisticas, limite);
+        long t = System.nanoTime();
+        quickSort(arreglo, m, 0, arreglo.length - 1, true, limite);
+        estadisticas.nanosegundos(System.nanoTime() - t);
     }
 
     /**
-     * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice
-     * del elemento en el arreglo, o -1 si no se encuentra.
+     * Ordena el arreglo recibido usando IntroSort, acumulando en las
+     * estadísticas lo que hace.
      * @param <T> tipo del que puede ser el arreglo.
      * @param arreglo un arreglo cuyos elementos son comparables.
-     * @param elemento el elemento a buscar.
-     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @param estadisticas las estadísticas donde se acumulan las medidas.
+     * @see #introSort(Object[],Comparator,Estadisticas)
      */
-    public static <T extends Comparable<T>> int
-    busquedaBinaria(T[] arreglo, T elemento) {
-        return busquedaBinaria(arreglo, elemento, (a, b) -> a.compareTo(b));
+    public static <T extends Comparable<T>> void
+    introSort(T[] arreglo, Estadisticas estadisticas) {
+        introSort(arreglo, (a, b) -> a.compareTo(b), estadisticas);
+    }
+
+    /**
+     * Ordena el arreglo recibido usando QuickSort con partición en tres vías
+     * (la bandera holandesa de Dijkstra): cada partición deja juntos a todos
+     * los elementos iguales al pivote, y ésos ya no se vuelven a visitar.
+     * Con <em>k</em> llaves distintas toma O(<em>n</em> log <em>k</em>)
+     * comparaciones, así que es casi lineal en arreglos con pocas llaves
+     * distintas. Como {@link #introSort(Object[],Comparator)}, cambia a
+     * HeapSort si la recursión se vuelve demasiado profunda.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    public static <T> void
+    quickSortTresVias(T[] arreglo, Comparator<T> comparador) {
+        quickSortTresVias(arreglo, comparador, 0, arreglo.length - 1,
+                          limiteProfundidad(arreglo.length), new int[2]);
     }
 
+    /**
+     * Ordena el arreglo recibido usando QuickSort con partición en tres vías.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @see #quickSortTresVias(Object[],Comparator)
+     */
+    public static <T extends Comparable<T>> void
+    quickSortTresVias(T[] arreglo) {
+        quickSortTresVias(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /* QuickSort en tres vías sobre [ini, fin]; recursa sobre la parte más
+     * chica de las que quedan a los lados de los iguales al pivote, y usa
+     * limites para recibir los extremos de la partición. */
+    private static <T> void
+    quickSortTresVias(T[] a, Comparator<T> c, int ini, int fin, int limite,
+                      int[] limites) {
+        while (fin - ini + 1 >= UMBRAL_INSERCION) {
+            if (limite-- == 0) {
+                heapSort(a, c, ini, fin);
+                return;
+            }
+            eligePivote(a, c, ini, fin);
+            particionTresVias(a, c, ini, fin, limites);
+            int lt = limites[0];
+            int gt = limites[1];
+            if (lt - ini < fin - gt) {
+                quickSortTresVias(a, c, ini, lt - 1, limite, limites);
+                ini = gt + 1;
+            } else {
+                quickSortTresVias(a, c, gt + 1, fin, limite, limites);
+                fin = lt - 1;
+            }
+        }
+        insercion(a, c, ini, fin);
+    }
+
+    /**
+     * Ordena el arreglo de cadenas recibido usando QuickSort de varias
+     * llaves (QuickSort radix en tres vías, de Bentley y Sedgewick): cada
+     * partición usa un solo carácter, en tres vías, y los elementos iguales
+     * al pivote se siguen ordenando a partir del siguiente carácter. Así los
+     * prefijos comunes se examinan una sola vez, en lugar de en cada
+     * comparación. El orden es el mismo de {@link String#compareTo}, por
+     * unidades UTF-16. Sirve también para arreglos de {@link String}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static <T extends CharSequence> void quickSortCadenas(T[] arreglo) {
+        quickSortCadenas(arreglo, 0, arreglo.length - 1, 0);
+    }
+
+    /* QuickSort de varias llaves sobre [ini, fin], cuyos elementos comparten
+     * los primeros d caracteres. Recursa sobre las dos partes más chicas y
+     * sigue con la más grande. */
+    private static <T extends CharSequence> void
+    quickSortCadenas(T[] a, int ini, int fin, int d) {
+        while (fin - ini + 1 >= UMBRAL_INSERCION) {
+            int m = ini + (fin - ini) / 2;
+            int x = caracter(a[ini], d);
+            int y = caracter(a[m], d);
+            int z = caracter(a[fin], d);
+            int p = (x < y) ? (y < z ? m : (x < z ? fin : ini))
+                            : (x < z ? ini : (y < z ? fin : m));
+            intercambia(a, ini, p);
+            int v = caracter(a[ini], d);
+            int lt = ini, gt = fin, i = ini + 1;
+            while (i <= gt) {
+                int t = caracter(a[i], d);
+                if (t < v)
+                    intercambia(a, lt++, i++);
+                else if (t > v)
+                    intercambia(a, i, gt--);
+                else
+                    i++;
+            }
+            /* Las tres partes: [ini, lt), [lt, gt] con un carácter más en
+             * común (si no se terminaron), y (gt, fin]. */
+            int menores = lt - ini;
+            int iguales = v < 0 ? 0 : gt - lt + 1;
+            int mayores = fin - gt;
+            if (menores >= iguales && menores >= mayores) {
+                if (v >= 0)
+                    quickSortCadenas(a, lt, gt, d + 1);
+                quickSortCadenas(a, gt + 1, fin, d);
+                fin = lt - 1;
+            } else if (mayores >= iguales) {
+                quickSortCadenas(a, ini, lt - 1, d);
+                if (v >= 0)
+                    quickSortCadenas(a, lt, gt, d + 1);
+                ini = gt + 1;
+            } else {
+                quickSortCadenas(a, ini, lt - 1, d);
+                quickSortCadenas(a, gt + 1, fin, d);
+                ini = lt;
+                fin = gt;
+                d++;
+            }
+        }
+        for (int i = ini + 1; i <= fin; i++)
+            for (int j = i; j > ini && comparaDesde(a[j], a[j-1], d) < 0; j--)
+                intercambia(a, j, j - 1);
+    }
+
+    /* Regresa el carácter d de la cadena, o -1 si la cadena es más corta. */
+    private static int caracter(CharSequence s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    /* Compara dos cadenas a partir del carácter d. */
+    private static int comparaDesde(CharSequence s, CharSequence t, int d) {
+        int n = Math.min(s.length(), t.length());
+        for (int i = d; i < n; i++) {
+            int r = s.charAt(i) - t.charAt(i);
+            if (r != 0)
+                return r;
+        }
+        return s.length() - t.length();
+    }
+
+    /**
+     * Ordena el arreglo recibido usando SelectionSort.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordernar el arreglo.
+     */
+    public static <T> void
+    selectionSort(T[] arreglo, Comparator<T> comparador) {
+        // Aquí va su código
+        int min;
+
+        for (int i = 0; i < (arreglo.length - 1); i++) {
+            min = i;
+            for (int j = i + 1; j < arreglo.length; j++) {
+                if (comparador.compare(arreglo[j], arreglo[min]) < 0) {
+                    min = j;
+                }
+            }
+
+            T temp = arreglo[i];
+            arreglo[i] = arreglo[min];
+            arreglo[min] = temp;
+        }
+    }
+
+    /**
+     * Ordena el arreglo recibido usando SelectionSort.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void
+    selectionSort(T[] arreglo) {
+        selectionSort(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando un MergeSort natural y adaptativo. El
+     * arreglo se recorre una vez buscando corridas ya ordenadas (las
+     * descendentes se voltean), las corridas cortas se extienden con inserción
+     * binaria, y las corridas se mezclan galopando cuando una de ellas gana
+     * muchas veces seguidas. Un arreglo ya ordenado, o formado por pocas
+     * corridas, se ordena en tiempo casi lineal. El ordenamiento es estable y
+     * usa un solo arreglo auxiliar de a lo más la mitad del tamaño del
+     * recibido.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    public static <T> void
+    mergeSort(T[] arreglo, Comparator<T> comparador) {
+        @SuppressWarnings("unchecked") T[] auxiliar =
+            (T[])new Object[arreglo.length / 2 + 1];
+        new CorridasNaturales<T>(arreglo, comparador, auxiliar, 0)
+            .ordena(0, arreglo.length);
+    }
+
+    /**
+     * Ordena el arreglo recibido usando un MergeSort natural y adaptativo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void
+    mergeSort(T[] arreglo) {
+        mergeSort(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort, acumulando en las
+     * estadísticas las comparaciones, intercambios, movimientos, la
+     * profundidad máxima y el tiempo que toma. La
+     * profundidad es la altura máxima de la pila de corridas.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param estadisticas las estadísticas donde se acumulan las medidas.
+     * @see Estadisticas
+     */
+    public static <T> void
+    mergeSort(T[] arreglo, Comparator<T> comparador,
+              Estadisticas estadisticas) {
+        Medidor<T> m = new Medidor<T>(comparador, estadisticas, 0);
+        long t = System.nanoTime();
+        mergeSort(arreglo, m);
+        estadisticas.nanosegundos(System.nanoTime() - t);
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort, acumulando en las
+     * estadísticas lo que hace.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @param estadisticas las estadísticas donde se acumulan las medidas.
+     * @see #mergeSort(Object[],Comparator,Estadisticas)
+     */
+    public static <T extends Comparable<T>> void
+    mergeSort(T[] arreglo, Estadisticas estadisticas) {
+        mergeSort(arreglo, (a, b) -> a.compareTo(b), estadisticas);
+    }
+
+    /**
+     * Selecciona el <em>k</em>-ésimo elemento del arreglo: reacomoda el
+     * arreglo de manera que en la posición <em>k</em> quede el elemento que
+     * estaría ahí si el arreglo estuviera ordenado, todos los anteriores sean
+     * menores o iguales que él, y todos los posteriores mayores o iguales. Usa
+     * QuickSelect con partición en tres vías, que toma O(n) en promedio; si
+     * cada dos particiones el intervalo no se reduce a la mitad, cambia al
+     * pivote de la mediana de medianas, que garantiza O(n) en el peor caso.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo dónde seleccionar.
+     * @param k el índice del elemento a seleccionar.
+     * @param comparador el comparador para seleccionar el elemento.
+     * @return el <em>k</em>-ésimo elemento del arreglo.
+     * @throws ExcepcionIndiceInvalido si <em>k</em> es menor que cero o mayor
+     *         o igual que la longitud del arreglo.
+     */
+    public static <T> T
+    selecciona(T[] arreglo, int k, Comparator<T> comparador) {
+        if (k < 0 || k >= arreglo.length)
+            throw new ExcepcionIndiceInvalido("Índice inválido: " + k);
+        selecciona(arreglo, comparador, 0, arreglo.length - 1, k);
+        return arreglo[k];
+    }
+
+    /**
+     * Selecciona el <em>k</em>-ésimo elemento del arreglo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @param k el índice del elemento a seleccionar.
+     * @return el <em>k</em>-ésimo elemento del arreglo.
+     * @throws ExcepcionIndiceInvalido si <em>k</em> es menor que cero o mayor
+     *         o igual que la longitud del arreglo.
+     */
+    public static <T extends Comparable<T>> T
+    selecciona(T[] arreglo, int k) {
+        return selecciona(arreglo, k, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Ordena parcialmente el arreglo: después de llamar el método, las
+     * primeras <em>k</em> posiciones tienen los <em>k</em> elementos más
+     * chicos del arreglo, ordenados, y el resto del arreglo queda en un orden
+     * arbitrario. Toma O(n + k log k).
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar parcialmente.
+     * @param k el número de elementos a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @throws ExcepcionIndiceInvalido si <em>k</em> es menor que cero o mayor
+     *         que la longitud del arreglo.
+     */
+    public static <T> void
+    partialSort(T[] arreglo, int k, Comparator<T> comparador) {
+        if (k < 0 || k > arreglo.length)
+            throw new ExcepcionIndiceInvalido("Índice inválido: " + k);
+        if (k == 0)
+            return;
+        selecciona(arreglo, comparador, 0, arreglo.length - 1, k - 1);
+        quickSort(arreglo, comparador, 0, k - 1, true, limiteProfundidad(k));
+    }
+
+    /**
+     * Ordena parcialmente el arreglo, dejando ordenados en las primeras
+     * <em>k</em> posiciones los <em>k</em> elementos más chicos.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @param k el número de elementos a ordenar.
+     * @throws ExcepcionIndiceInvalido si <em>k</em> es menor que cero o mayor
+     *         que la longitud del arreglo.
+     */
+    public static <T extends Comparable<T>> void
+    partialSort(T[] arreglo, int k) {
+        partialSort(arreglo, k, (a, b) -> a.compareTo(b));
+    }
+
+    /* Deja en a[k] el elemento que le corresponde en el intervalo [ini, fin]
+     * ordenado, con los menores o iguales antes y los mayores o iguales
+     * después. */
+    private static <T> void
+    selecciona(T[] a, Comparator<T> c, int ini, int fin, int k) {
+        int[] limites = new int[2];
+        /* Cada dos particiones el intervalo tiene que reducirse a la mitad;
+         * si no, las siguientes usan la mediana de medianas. */
+        int tamano = fin - ini + 1;
+        int pasos = 0;
+        boolean medianas = false;
+        while (fin - ini + 1 > UMBRAL_INSERCION) {
+            if (medianas)
+                intercambia(a, ini, medianaDeMedianas(a, c, ini, fin));
+            else
+                eligePivote(a, c, ini, fin);
+            particionTresVias(a, c, ini, fin, limites);
+            if (k < limites[0])
+                fin = limites[0] - 1;
+            else if (k > limites[1])
+                ini = limites[1] + 1;
+            else
+                return;
+            if (++pasos == 2) {
+                medianas = fin - ini + 1 > tamano / 2;
+                tamano = fin - ini + 1;
+                pasos = 0;
+            }
+        }
+        insercion(a, c, ini, fin);
+    }
+
+    /* Regresa el índice de la mediana de medianas de grupos de cinco del
+     * intervalo [ini, fin]; las medianas de los grupos quedan al inicio. */
+    private static <T> int
+    medianaDeMedianas(T[] a, Comparator<T> c, int ini, int fin) {
+        int j = ini;
+        for (int i = ini; i <= fin; i += 5) {
+            int f = Math.min(i + 4, fin);
+            insercion(a, c, i, f);
+            intercambia(a, j++, i + (f - i) / 2);
+        }
+        int m = ini + (j - ini - 1) / 2;
+        selecciona(a, c, ini, j - 1, m);
+        return m;
+    }
+
+    /* Parte el intervalo [ini, fin] en tres alrededor de a[ini]: menores,
+     * iguales y mayores. Deja en limites el primer y el último índice de los
+     * iguales. */
+    private static <T> void particionTresVias(T[] a, Comparator<T> c,
+                                              int ini, int fin, int[] limites) {
+        T v = a[ini];
+        int lt = ini;
+        int i = ini + 1;
+        int gt = fin;
+        while (i <= gt) {
+            int r = c.compare(a[i], v);
+            if (r < 0)
+                intercambia(a, lt++, i++);
+            else if (r > 0)
+                intercambia(a, i, gt--);
+            else
+                i++;
+        }
+        limites[0] = lt;
+        limites[1] = gt;
+    }
+
+    /**
+     * Ordena el arreglo recibido usando QuickSort en paralelo, en el {@link
+     * ForkJoinPool#commonPool} y con el umbral secuencial por omisión.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    public static <T> void
+    quickSortParalelo(T[] arreglo, Comparator<T> comparador) {
+        quickSortParalelo(arreglo, comparador, UMBRAL_PARALELO,
+                          ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ordena el arreglo recibido usando QuickSort en paralelo. Cada partición
+     * se ordena en su propia tarea del <em>pool</em>, hasta que los intervalos
+     * son más chicos que el umbral y se ordenan secuencialmente. Igual que
+     * {@link #introSort(Object[],Comparator)}, cambia a HeapSort si la
+     * recursión es demasiado profunda.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param umbral el tamaño de intervalo debajo del cual se ordena de manera
+     *               secuencial.
+     * @param pool el <em>pool</em> donde se ejecutan las tareas.
+     * @throws IllegalArgumentException si el umbral es menor que uno.
+     */
+    public static <T> void
+    quickSortParalelo(T[] arreglo, Comparator<T> comparador,
+                      int umbral, ForkJoinPool pool) {
+        if (umbral < 1)
+            throw new IllegalArgumentException("Umbral inválido: " + umbral);
+        int limite = limiteProfundidad(arreglo.length);
+        pool.invoke(new QuickSortParalelo<T>(arreglo, comparador, 0,
+                                             arreglo.length - 1, true,
+                                             limite, umbral));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando QuickSort en paralelo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void
+    quickSortParalelo(T[] arreglo) {
+        quickSortParalelo(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo, en el {@link
+     * ForkJoinPool#commonPool} y con el umbral secuencial por omisión. El
+     * ordenamiento es estable.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    public static <T> void
+    mergeSortParalelo(T[] arreglo, Comparator<T> comparador) {
+        mergeSortParalelo(arreglo, comparador, UMBRAL_PARALELO,
+                          ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo. Las mitades se
+     * ordenan en tareas distintas y se mezclan también en paralelo, partiendo
+     * cada mezcla con búsquedas binarias. El ordenamiento es estable, y usa un
+     * arreglo auxiliar del mismo tamaño que el recibido.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param umbral el tamaño de intervalo debajo del cual se ordena y mezcla
+     *               de manera secuencial.
+     * @param pool el <em>pool</em> donde se ejecutan las tareas.
+     * @throws IllegalArgumentException si el umbral es menor que uno.
+     */
+    public static <T> void
+    mergeSortParalelo(T[] arreglo, Comparator<T> comparador,
+                      int umbral, ForkJoinPool pool) {
+        if (umbral < 1)
+            throw new IllegalArgumentException("Umbral inválido: " + umbral);
+        T[] auxiliar = arreglo.clone();
+        pool.invoke(new MergeSortParalelo<T>(auxiliar, arreglo, comparador,
+                                             0, arreglo.length, umbral));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void
+    mergeSortParalelo(T[] arreglo) {
+        mergeSortParalelo(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando SampleSort en paralelo, en el {@link
+     * ForkJoinPool#commonPool}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @see #sampleSort(Object[],Comparator,ForkJoinPool)
+     */
+    public static <T> void
+    sampleSort(T[] arreglo, Comparator<T> comparador) {
+        sampleSort(arreglo, comparador, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Ordena el arreglo recibido usando SampleSort en paralelo. De una
+     * muestra aleatoria ordenada se eligen separadores que parten los
+     * valores en varias cubetas por cada hilo del <em>pool</em>. Luego cada
+     * hilo clasifica un bloque del arreglo y cuenta cuántos elementos manda a
+     * cada cubeta; con esas cuentas cada hilo sabe exactamente en qué parte
+     * de un arreglo auxiliar escribir los elementos de su bloque, así que no
+     * hace falta sincronizar nada más que el final de cada fase. Por último
+     * cada cubeta se ordena de manera independiente con QuickSort
+     * secuencial.</p>
+     *
+     * <p>Cada elemento se mueve dos veces y se compara O(log <em>p</em>) veces
+     * para clasificarlo, más lo que cueste ordenar su cubeta. Usa un arreglo
+     * auxiliar del tamaño del recibido, más un entero por elemento. Si hay
+     * muy pocos valores distintos las cubetas quedan desbalanceadas y se
+     * pierde paralelismo, pero el resultado sigue siendo correcto. Los
+     * arreglos chicos se ordenan secuencialmente.</p>
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param pool el <em>pool</em> donde se ejecutan las tareas.
+     */
+    public static <T> void
+    sampleSort(T[] arreglo, Comparator<T> comparador, ForkJoinPool pool) {
+        int n = arreglo.length;
+        int hilos = pool.getParallelism();
+        if (n < UMBRAL_PARALELO || hilos == 1) {
+            introSort(arreglo, comparador);
+            return;
+        }
+
+        /* Los separadores: cada SOBREMUESTREO elementos de la muestra. */
+        int cubetas = CUBETAS_POR_HILO * hilos;
+        T[] muestra = Arrays.copyOf(arreglo, cubetas * SOBREMUESTREO);
+        Random random = new Random();
+        for (int i = 0; i < muestra.length; i++)
+            muestra[i] = arreglo[random.nextInt(n)];
+        introSort(muestra, comparador);
+        T[] separadores = Arrays.copyOf(muestra, cubetas - 1);
+        for (int i = 0; i < separadores.length; i++)
+            separadores[i] = muestra[(i + 1) * SOBREMUESTREO];
+
+        /* Clasificación: la cubeta de cada elemento es el número de
+         * separadores menores o iguales a él. */
+        int[] cubeta = new int[n];
+        int[][] cuentas = new int[hilos][cubetas];
+        enParalelo(pool, hilos, t -> {
+                int[] cuenta = cuentas[t];
+                int fin = bloque(n, hilos, t + 1);
+                for (int i = bloque(n, hilos, t); i < fin; i++) {
+                    int b = cotaSuperior(separadores, arreglo[i], comparador,
+                                         0, separadores.length);
+                    cubeta[i] = b;
+                    cuenta[b]++;
+                }
+            });
+
+        /* Dónde empieza cada cubeta, y dónde escribe cada hilo en ella. */
+        int[] inicio = new int[cubetas + 1];
+        int k = 0;
+        for (int b = 0; b < cubetas; b++) {
+            inicio[b] = k;
+            for (int t = 0; t < hilos; t++) {
+                int c = cuentas[t][b];
+                cuentas[t][b] = k;
+                k += c;
+            }
+        }
+        inicio[cubetas] = n;
+
+        T[] auxiliar = Arrays.copyOf(arreglo, n);
+        enParalelo(pool, hilos, t -> {
+                int[] posicion = cuentas[t];
+                int fin = bloque(n, hilos, t + 1);
+                for (int i = bloque(n, hilos, t); i < fin; i++)
+                    auxiliar[posicion[cubeta[i]]++] = arreglo[i];
+            });
+
+        enParalelo(pool, cubetas, b -> {
+                int ini = inicio[b];
+                int fin = inicio[b + 1];
+                if (fin - ini > 1)
+                    quickSort(auxiliar, comparador, ini, fin - 1, true,
+                              limiteProfundidad(fin - ini));
+                System.arraycopy(auxiliar, ini, arreglo, ini, fin - ini);
+            });
+    }
+
+    /**
+     * Ordena el arreglo recibido usando SampleSort en paralelo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @see #sampleSort(Object[],Comparator,ForkJoinPool)
+     */
+    public static <T extends Comparable<T>> void
+    sampleSort(T[] arreglo) {
+        sampleSort(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /* Regresa el inicio del bloque t de los n elementos partidos en h
+     * bloques. */
+    private static int bloque(int n, int h, int t) {
+        return (int)((long)n * t / h);
+    }
+
+    /* Ejecuta la acción para cada i en [0, n) en tareas del pool, y espera a
+     * que todas terminen. */
+    private static void
+    enParalelo(ForkJoinPool pool, int n, IntConsumer accion) {
+        RecursiveAction[] tareas = new RecursiveAction[n];
+        for (int i = 0; i < n; i++) {
+            int j = i;
+            tareas[i] = new RecursiveAction() {
+                    @Override protected void compute() {
+                        accion.accept(j);
+                    }
+                };
+        }
+        pool.invoke(new RecursiveAction() {
+                @Override protected void compute() {
+                    invokeAll(tareas);
+                }
+            });
+    }
+
+    /* Ordena de forma estable el intervalo [ini, fin) de a, usando el mismo
+     * intervalo de aux como espacio de trabajo. */
+    private static <T> void
+    mergeSort(T[] a, T[] aux, Comparator<T> c, int ini, int fin) {
+        new CorridasNaturales<T>(a, c, aux, ini).ordena(ini, fin);
+    }
+
+    /* Mezcla de forma estable los intervalos ordenados [i1, f1) y [i2, f2) de
+     * origen, escribiéndolos en destino a partir de k. */
+    private static <T> void mezcla(T[] origen, T[] destino, Comparator<T> c,
+                                   int i1, int f1, int i2, int f2, int k) {
+        while (i1 < f1 && i2 < f2)
+            destino[k++] = c.compare(origen[i2], origen[i1]) < 0 ?
+                origen[i2++] : origen[i1++];
+        while (i1 < f1)
+            destino[k++] = origen[i1++];
+        while (i2 < f2)
+            destino[k++] = origen[i2++];
+    }
+
+    /**
+     * Regresa la permutación que ordena el arreglo, sin modificarlo: el
+     * arreglo <code>p</code> regresado cumple que <code>arreglo[p[0]]</code>,
+     * <code>arreglo[p[1]]</code>, ... está ordenado. Los empates se rompen por
+     * índice, así que el orden es estable. Sólo se mueven enteros, y la
+     * permutación se puede aplicar a varios arreglos paralelos con {@link
+     * #aplicaPermutacion(Object[],int[])}.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo cuyo orden se calcula.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @return la permutación que ordena el arreglo.
+     */
+    public static <T> int[]
+    ordenIndices(T[] arreglo, Comparator<T> comparador) {
+        int[] p = new int[arreglo.length];
+        for (int i = 0; i < p.length; i++)
+            p[i] = i;
+        quickSortIndices(p, arreglo, comparador, 0, p.length - 1);
+        return p;
+    }
+
+    /**
+     * Regresa la permutación que ordena el arreglo, sin modificarlo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo cuyo orden se calcula.
+     * @return la permutación que ordena el arreglo.
+     * @see #ordenIndices(Object[],Comparator)
+     */
+    public static <T extends Comparable<T>> int[]
+    ordenIndices(T[] arreglo) {
+        return ordenIndices(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /* QuickSort con mediana de tres sobre los índices [ini, fin] de p. */
+    private static <T> void quickSortIndices(int[] p, T[] a, Comparator<T> c,
+                                             int ini, int fin) {
+        while (fin - ini >= UMBRAL_INSERCION) {
+            int m = ini + (fin - ini) / 2;
+            if (menor(a, c, p[m], p[ini]))
+                intercambia(p, m, ini);
+            if (menor(a, c, p[fin], p[ini]))
+                intercambia(p, fin, ini);
+            if (menor(a, c, p[fin], p[m]))
+                intercambia(p, fin, m);
+            intercambia(p, ini, m);
+            int pivote = p[ini];
+            int i = ini, j = fin + 1;
+            while (true) {
+                while (menor(a, c, p[++i], pivote))
+                    ;
+                while (menor(a, c, pivote, p[--j]))
+                    ;
+                if (i >= j)
+                    break;
+                intercambia(p, i, j);
+            }
+            intercambia(p, ini, j);
+            if (j - ini < fin - j) {
+                quickSortIndices(p, a, c, ini, j - 1);
+                ini = j + 1;
+            } else {
+                quickSortIndices(p, a, c, j + 1, fin);
+                fin = j - 1;
+            }
+        }
+        for (int i = ini + 1; i <= fin; i++) {
+            int e = p[i];
+            int j = i - 1;
+            while (j >= ini && menor(a, c, e, p[j])) {
+                p[j+1] = p[j];
+                j--;
+            }
+            p[j+1] = e;
+        }
+    }
+
+    /* Nos dice si a[i] va antes que a[j], rompiendo empates por índice. */
+    private static <T> boolean menor(T[] a, Comparator<T> c, int i, int j) {
+        int r = c.compare(a[i], a[j]);
+        return r < 0 || (r == 0 && i < j);
+    }
+
+    /**
+     * Reordena el arreglo en su lugar según la permutación, de manera que el
+     * elemento en la posición <em>i</em> termina siendo el que estaba en la
+     * posición <code>permutacion[i]</code>. Sigue los ciclos de la
+     * permutación, así que toma tiempo O(<em>n</em>) y no usa memoria extra;
+     * la permutación se marca durante el recorrido, pero se regresa intacta.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a reordenar.
+     * @param permutacion la permutación a aplicar.
+     * @throws ExcepcionIndiceInvalido si la permutación no tiene la longitud
+     *         del arreglo o no es una permutación de sus índices; en este
+     *         caso el contenido del arreglo queda indefinido.
+     */
+    public static <T> void aplicaPermutacion(T[] arreglo, int[] permutacion) {
+        int[] p = permutacion;
+        revisaPermutacion(p, arreglo.length);
+        for (int i = 0; i < p.length; i++) {
+            if (p[i] < 0)
+                continue;
+            T t = arreglo[i];
+            int j = i, k = p[i];
+            while (k != i) {
+                if (k < 0)
+                    permutacionInvalida(p);
+                arreglo[j] = arreglo[k];
+                p[j] = ~k;
+                j = k;
+                k = p[k];
+            }
+            arreglo[j] = t;
+            p[j] = ~i;
+        }
+        restauraPermutacion(p);
+    }
+
+    /**
+     * Reordena el arreglo de enteros en su lugar según la permutación.
+     * @param arreglo el arreglo a reordenar.
+     * @param permutacion la permutación a aplicar.
+     * @throws ExcepcionIndiceInvalido si la permutación no es válida.
+     * @see #aplicaPermutacion(Object[],int[])
+     */
+    public static void aplicaPermutacion(int[] arreglo, int[] permutacion) {
+        int[] p = permutacion;
+        revisaPermutacion(p, arreglo.length);
+        for (int i = 0; i < p.length; i++) {
+            if (p[i] < 0)
+                continue;
+            int t = arreglo[i];
+            int j = i, k = p[i];
+            while (k != i) {
+                if (k < 0)
+                    permutacionInvalida(p);
+                arreglo[j] = arreglo[k];
+                p[j] = ~k;
+                j = k;
+                k = p[k];
+            }
+            arreglo[j] = t;
+            p[j] = ~i;
+        }
+        restauraPermutacion(p);
+    }
+
+    /**
+     * Reordena el arreglo de enteros largos en su lugar según la permutación.
+     * @param arreglo el arreglo a reordenar.
+     * @param permutacion la permutación a aplicar.
+     * @throws ExcepcionIndiceInvalido si la permutación no es válida.
+     * @see #aplicaPermutacion(Object[],int[])
+     */
+    public static void aplicaPermutacion(long[] arreglo, int[] permutacion) {
+        int[] p = permutacion;
+        revisaPermutacion(p, arreglo.length);
+        for (int i = 0; i < p.length; i++) {
+            if (p[i] < 0)
+                continue;
+            long t = arreglo[i];
+            int j = i, k = p[i];
+            while (k != i) {
+                if (k < 0)
+                    permutacionInvalida(p);
+                arreglo[j] = arreglo[k];
+                p[j] = ~k;
+                j = k;
+                k = p[k];
+            }
+            arreglo[j] = t;
+            p[j] = ~i;
+        }
+        restauraPermutacion(p);
+    }
+
+    /**
+     * Reordena el arreglo de dobles en su lugar según la permutación.
+     * @param arreglo el arreglo a reordenar.
+     * @param permutacion la permutación a aplicar.
+     * @throws ExcepcionIndiceInvalido si la permutación no es válida.
+     * @see #aplicaPermutacion(Object[],int[])
+     */
+    public static void aplicaPermutacion(double[] arreglo, int[] permutacion) {
+        int[] p = permutacion;
+        revisaPermutacion(p, arreglo.length);
+        for (int i = 0; i < p.length; i++) {
+            if (p[i] < 0)
+                continue;
+            double t = arreglo[i];
+            int j = i, k = p[i];
+            while (k != i) {
+                if (k < 0)
+                    permutacionInvalida(p);
+                arreglo[j] = arreglo[k];
+                p[j] = ~k;
+                j = k;
+                k = p[k];
+            }
+            arreglo[j] = t;
+            p[j] = ~i;
+        }
+        restauraPermutacion(p);
+    }
+
+    /* Revisa que p tenga longitud n y que sus valores estén en [0, n); los
+     * repetidos se detectan al recorrer los ciclos. */
+    private static void revisaPermutacion(int[] p, int n) {
+        if (p.length != n)
+            throw new ExcepcionIndiceInvalido("Permutación inválida");
+        for (int k : p)
+            if (k < 0 || k >= n)
+                throw new ExcepcionIndiceInvalido("Permutación inválida");
+    }
+
+    /* Quita las marcas de los índices ya visitados de p. */
+    private static void restauraPermutacion(int[] p) {
+        for (int i = 0; i < p.length; i++)
+            if (p[i] < 0)
+                p[i] = ~p[i];
+    }
+
+    /* Restaura p y avisa que tenía índices repetidos. */
+    private static void permutacionInvalida(int[] p) {
+        restauraPermutacion(p);
+        throw new ExcepcionIndiceInvalido("Permutación inválida");
+    }
+
+    /**
+     * Mezcla los arreglos ordenados recibidos en un arreglo nuevo, usando un
+     * árbol de perdedores: cada elemento de la salida cuesta log <em>k</em>
+     * comparaciones en lugar de <em>k</em>, con <em>k</em> el número de
+     * arreglos. La mezcla es estable: los elementos iguales conservan su
+     * orden, y entre arreglos distintos va primero el de menor índice.
+     * @param <T> tipo del que pueden ser los arreglos.
+     * @param ordenados los arreglos ordenados a mezclar.
+     * @param comparador el comparador con el que están ordenados.
+     * @return un arreglo nuevo con todos los elementos, ordenado.
+     */
+    public static <T> T[]
+    mezclaK(T[][] ordenados, Comparator<T> comparador) {
+        int n = 0;
+        for (T[] a : ordenados)
+            n += a.length;
+        @SuppressWarnings("unchecked") T[] r = (T[])Array.newInstance(
+            ordenados.getClass().getComponentType().getComponentType(), n);
+        MezclaK<T> mezcla = new MezclaK<T>(ordenados, comparador);
+        for (int i = 0; i < n; i++)
+            r[i] = mezcla.next();
+        return r;
+    }
+
+    /**
+     * Mezcla los arreglos ordenados recibidos en un arreglo nuevo.
+     * @param <T> tipo del que pueden ser los arreglos.
+     * @param ordenados los arreglos ordenados a mezclar.
+     * @return un arreglo nuevo con todos los elementos, ordenado.
+     * @see #mezclaK(Object[][],Comparator)
+     */
+    public static <T extends Comparable<T>> T[]
+    mezclaK(T[][] ordenados) {
+        return mezclaK(ordenados, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa un iterador que mezcla los arreglos ordenados recibidos
+     * conforme se recorre, sin copiarlos. Los arreglos no deben modificarse
+     * mientras se usa el iterador.
+     * @param <T> tipo del que pueden ser los arreglos.
+     * @param ordenados los arreglos ordenados a mezclar.
+     * @param comparador el comparador con el que están ordenados.
+     * @return un iterador con todos los elementos, en orden.
+     * @see #mezclaK(Object[][],Comparator)
+     */
+    public static <T> Iterator<T>
+    iteradorMezclaK(T[][] ordenados, Comparator<T> comparador) {
+        return new MezclaK<T>(ordenados, comparador);
+    }
+
+    /**
+     * Regresa un iterador que mezcla los arreglos ordenados recibidos
+     * conforme se recorre.
+     * @param <T> tipo del que pueden ser los arreglos.
+     * @param ordenados los arreglos ordenados a mezclar.
+     * @return un iterador con todos los elementos, en orden.
+     * @see #iteradorMezclaK(Object[][],Comparator)
+     */
+    public static <T extends Comparable<T>> Iterator<T>
+    iteradorMezclaK(T[][] ordenados) {
+        return iteradorMezclaK(ordenados, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Mezcla los arreglos ordenados de enteros recibidos en un arreglo nuevo,
+     * usando un árbol de perdedores.
+     * @param ordenados los arreglos ordenados a mezclar.
+     * @return un arreglo nuevo con todos los elementos, ordenado.
+     */
+    public static int[] mezclaK(int[][] ordenados) {
+        int n = 0;
+        for (int[] a : ordenados)
+            n += a.length;
+        int[] r = new int[n];
+        MezclaKEnteros mezcla = new MezclaKEnteros(ordenados);
+        for (int i = 0; i < n; i++) {
+            int g = mezcla.ganadora();
+            r[i] = ordenados[g][mezcla.posicion[g]];
+            mezcla.avanza();
+        }
+        return r;
+    }
+
+    /**
+     * Mezcla los arreglos ordenados de enteros largos recibidos en un arreglo
+     * nuevo, usando un árbol de perdedores.
+     * @param ordenados los arreglos ordenados a mezclar.
+     * @return un arreglo nuevo con todos los elementos, ordenado.
+     */
+    public static long[] mezclaK(long[][] ordenados) {
+        int n = 0;
+        for (long[] a : ordenados)
+            n += a.length;
+        long[] r = new long[n];
+        MezclaKLargos mezcla = new MezclaKLargos(ordenados);
+        for (int i = 0; i < n; i++) {
+            int g = mezcla.ganadora();
+            r[i] = ordenados[g][mezcla.posicion[g]];
+            mezcla.avanza();
+        }
+        return r;
+    }
+
+    /**
+     * Quita los elementos repetidos del arreglo ordenado, en su lugar: los
+     * primeros elementos del arreglo quedan siendo los distintos, en orden, y
+     * el resto de las posiciones se limpia con <code>null</code>. De cada
+     * grupo de iguales se conserva el primero.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param ordenado el arreglo ordenado a compactar.
+     * @param comparador el comparador con el que está ordenado.
+     * @return el número de elementos distintos.
+     */
+    public static <T> int unicos(T[] ordenado, Comparator<T> comparador) {
+        int k = Math.min(ordenado.length, 1);
+        for (int i = 1; i < ordenado.length; i++)
+            if (comparador.compare(ordenado[k-1], ordenado[i]) != 0)
+                ordenado[k++] = ordenado[i];
+        Arrays.fill(ordenado, k, ordenado.length, null);
+        return k;
+    }
+
+    /**
+     * Quita los elementos repetidos del arreglo ordenado, en su lugar.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param ordenado un arreglo ordenado cuyos elementos son comparables.
+     * @return el número de elementos distintos.
+     * @see #unicos(Object[],Comparator)
+     */
+    public static <T extends Comparable<T>> int unicos(T[] ordenado) {
+        return unicos(ordenado, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Quita los elementos repetidos del arreglo ordenado de enteros, en su
+     * lugar; los primeros elementos del arreglo quedan siendo los distintos,
+     * y el resto de las posiciones no se modifica.
+     * @param ordenado el arreglo ordenado a compactar.
+     * @return el número de elementos distintos.
+     */
+    public static int unicos(int[] ordenado) {
+        int k = Math.min(ordenado.length, 1);
+        for (int i = 1; i < ordenado.length; i++)
+            if (ordenado[k-1] != ordenado[i])
+                ordenado[k++] = ordenado[i];
+        return k;
+    }
+
+    /**
+     * Quita los elementos repetidos del arreglo ordenado de enteros largos,
+     * en su lugar.
+     * @param ordenado el arreglo ordenado a compactar.
+     * @return el número de elementos distintos.
+     * @see #unicos(int[])
+     */
+    public static int unicos(long[] ordenado) {
+        int k = Math.min(ordenado.length, 1);
+        for (int i = 1; i < ordenado.length; i++)
+            if (ordenado[k-1] != ordenado[i])
+                ordenado[k++] = ordenado[i];
+        return k;
+    }
+
+    /**
+     * Quita los elementos repetidos del arreglo ordenado de dobles, en su
+     * lugar. Los dobles se comparan como en {@link #quickSort(double[])}:
+     * todos los NaN son iguales entre sí, y -0.0 es distinto de 0.0.
+     * @param ordenado el arreglo ordenado a compactar.
+     * @return el número de elementos distintos.
+     * @see #unicos(int[])
+     */
+    public static int unicos(double[] ordenado) {
+        int k = Math.min(ordenado.length, 1);
+        for (int i = 1; i < ordenado.length; i++)
+            if (Double.compare(ordenado[k-1], ordenado[i]) != 0)
+                ordenado[k++] = ordenado[i];
+        return k;
+    }
+
+    /**
+     * Codifica por corridas el arreglo ordenado: escribe en
+     * <code>llaves</code> cada elemento distinto y en <code>cuentas</code>
+     * cuántas veces aparece, en las mismas posiciones, sin crear ninguna
+     * colección. De cada grupo de iguales la llave es el primero. Los
+     * arreglos de salida pueden ser más chicos que el de entrada, pero deben
+     * tener espacio para todas las corridas; <code>llaves</code> puede ser
+     * el mismo arreglo ordenado.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param ordenado el arreglo ordenado a codificar.
+     * @param comparador el comparador con el que está ordenado.
+     * @param llaves el arreglo donde se escriben los elementos distintos.
+     * @param cuentas el arreglo donde se escriben las repeticiones.
+     * @return el número de corridas.
+     * @throws ExcepcionIndiceInvalido si las corridas no caben en los
+     *         arreglos de salida.
+     */
+    public static <T> int
+    codificaCorridas(T[] ordenado, Comparator<T> comparador,
+                     T[] llaves, int[] cuentas) {
+        int k = 0;
+        for (int i = 0; i < ordenado.length; ) {
+            int j = i + 1;
+            while (j < ordenado.length &&
+                   comparador.compare(ordenado[i], ordenado[j]) == 0)
+                j++;
+            revisaCorrida(k, llaves.length, cuentas.length);
+            llaves[k] = ordenado[i];
+            cuentas[k++] = j - i;
+            i = j;
+        }
+        return k;
+    }
+
+    /**
+     * Codifica por corridas el arreglo ordenado.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param ordenado un arreglo ordenado cuyos elementos son comparables.
+     * @param llaves el arreglo donde se escriben los elementos distintos.
+     * @param cuentas el arreglo donde se escriben las repeticiones.
+     * @return el número de corridas.
+     * @throws ExcepcionIndiceInvalido si las corridas no caben en los
+     *         arreglos de salida.
+     * @see #codificaCorridas(Object[],Comparator,Object[],int[])
+     */
+    public static <T extends Comparable<T>> int
+    codificaCorridas(T[] ordenado, T[] llaves, int[] cuentas) {
+        return codificaCorridas(ordenado, (a, b) -> a.compareTo(b),
+                                llaves, cuentas);
+    }
+
+    /**
+     * Codifica por corridas el arreglo ordenado de enteros.
+     * @param ordenado el arreglo ordenado a codificar.
+     * @param llaves el arreglo donde se escriben los elementos distintos.
+     * @param cuentas el arreglo donde se escriben las repeticiones.
+     * @return el número de corridas.
+     * @throws ExcepcionIndiceInvalido si las corridas no caben en los
+     *         arreglos de salida.
+     * @see #codificaCorridas(Object[],Comparator,Object[],int[])
+     */
+    public static int
+    codificaCorridas(int[] ordenado, int[] llaves, int[] cuentas) {
+        int k = 0;
+        for (int i = 0; i < ordenado.length; ) {
+            int j = i + 1;
+            while (j < ordenado.length && ordenado[i] == ordenado[j])
+                j++;
+            revisaCorrida(k, llaves.length, cuentas.length);
+            llaves[k] = ordenado[i];
+            cuentas[k++] = j - i;
+            i = j;
+        }
+        return k;
+    }
+
+    /**
+     * Codifica por corridas el arreglo ordenado de enteros largos.
+     * @param ordenado el arreglo ordenado a codificar.
+     * @param llaves el arreglo donde se escriben los elementos distintos.
+     * @param cuentas el arreglo donde se escriben las repeticiones.
+     * @return el número de corridas.
+     * @throws ExcepcionIndiceInvalido si las corridas no caben en los
+     *         arreglos de salida.
+     * @see #codificaCorridas(Object[],Comparator,Object[],int[])
+     */
+    public static int
+    codificaCorridas(long[] ordenado, long[] llaves, int[] cuentas) {
+        int k = 0;
+        for (int i = 0; i < ordenado.length; ) {
+            int j = i + 1;
+            while (j < ordenado.length && ordenado[i] == ordenado[j])
+                j++;
+            revisaCorrida(k, llaves.length, cuentas.length);
+            llaves[k] = ordenado[i];
+            cuentas[k++] = j - i;
+            i = j;
+        }
+        return k;
+    }
+
+    /**
+     * Codifica por corridas el arreglo ordenado de dobles, comparándolos como
+     * {@link #unicos(double[])}.
+     * @param ordenado el arreglo ordenado a codificar.
+     * @param llaves el arreglo donde se escriben los elementos distintos.
+     * @param cuentas el arreglo donde se escriben las repeticiones.
+     * @return el número de corridas.
+     * @throws ExcepcionIndiceInvalido si las corridas no caben en los
+     *         arreglos de salida.
+     * @see #codificaCorridas(Object[],Comparator,Object[],int[])
+     */
+    public static int
+    codificaCorridas(double[] ordenado, double[] llaves, int[] cuentas) {
+        int k = 0;
+        for (int i = 0; i < ordenado.length; ) {
+            int j = i + 1;
+            while (j < ordenado.length &&
+                   Double.compare(ordenado[i], ordenado[j]) == 0)
+                j++;
+            revisaCorrida(k, llaves.length, cuentas.length);
+            llaves[k] = ordenado[i];
+            cuentas[k++] = j - i;
+            i = j;
+        }
+        return k;
+    }
+
+    /* Revisa que la corrida k quepa en los arreglos de salida. */
+    private static void revisaCorrida(int k, int llaves, int cuentas) {
+        if (k >= llaves || k >= cuentas)
+            throw new ExcepcionIndiceInvalido("Las corridas no caben en " +
+                                              "los arreglos de salida");
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice
+     * del elemento en el arreglo, o -1 si no se encuentra.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador para hacer la búsqueda.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static <T> int
+    busquedaBinaria(T[] arreglo, T elemento, Comparator<T> comparador) {
+        int ini = 0;
+        int fin = arreglo.length - 1;
+        while (ini <= fin) {
+            int m = (ini + fin) >>> 1;
+            int c = comparador.compare(arreglo[m], elemento);
+            if (c < 0)
+                ini = m + 1;
+            else if (c > 0)
+                fin = m - 1;
+            else
+                return m;
+        }
+        return -1;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice
+     * del elemento en el arreglo, o -1 si no se encuentra.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static <T extends Comparable<T>> int
+    busquedaBinaria(T[] arreglo, T elemento) {
+        return busquedaBinaria(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo, acumulando en las
+     * estadísticas las comparaciones y el tiempo que toma.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador para hacer la búsqueda.
+     * @param estadisticas las estadísticas donde se acumulan las medidas.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @see Estadisticas
+     */
+    public static <T> int
+    busquedaBinaria(T[] arreglo, T elemento, Comparator<T> comparador,
+                    Estadisticas estadisticas) {
+        Medidor<T> m = new Medidor<T>(comparador, estadisticas, 0);
+        long t = System.nanoTime();
+        int r = busquedaBinaria(arreglo, elemento, m);
+        estadisticas.nanosegundos(System.nanoTime() - t);
+        return r;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo, acumulando en las
+     * estadísticas lo que hace.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @param estadisticas las estadísticas donde se acumulan las medidas.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @see #busquedaBinaria(Object[],Object,Comparator,Estadisticas)
+     */
+    public static <T extends Comparable<T>> int
+    busquedaBinaria(T[] arreglo, T elemento, Estadisticas estadisticas) {
+        return busquedaBinaria(arreglo, elemento, (a, b) -> a.compareTo(b),
+                               estadisticas);
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado que no es
+     * menor que el elemento recibido, o la longitud del arreglo si no hay
+     * ninguno. Es la posición donde se insertaría el elemento antes de todos
+     * sus iguales.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el índice del primer elemento que no es menor que el recibido.
+     */
+    public static <T> int
+    cotaInferior(T[] arreglo, T elemento, Comparator<T> comparador) {
+        return cotaInferior(arreglo, elemento, comparador, 0, arreglo.length);
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado que no es
+     * menor que el elemento recibido, o la longitud del arreglo si no hay
+     * ninguno.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento que no es menor que el recibido.
+     */
+    public static <T extends Comparable<T>> int
+    cotaInferior(T[] arreglo, T elemento) {
+        return cotaInferior(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado que es mayor
+     * que el elemento recibido, o la longitud del arreglo si no hay ninguno.
+     * Es la posición donde se insertaría el elemento después de todos sus
+     * iguales.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el índice del primer elemento mayor que el recibido.
+     */
+    public static <T> int
+    cotaSuperior(T[] arreglo, T elemento, Comparator<T> comparador) {
+        return cotaSuperior(arreglo, elemento, comparador, 0, arreglo.length);
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado que es mayor
+     * que el elemento recibido, o la longitud del arreglo si no hay ninguno.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento mayor que el recibido.
+     */
+    public static <T extends Comparable<T>> int
+    cotaSuperior(T[] arreglo, T elemento) {
+        return cotaSuperior(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa el intervalo [<em>i</em>, <em>j</em>) de índices del arreglo
+     * ordenado cuyos elementos son iguales al recibido, como un arreglo
+     * <code>{i, j}</code>. Si el elemento no está, el intervalo es vacío y
+     * empieza donde se insertaría.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el intervalo de índices de los elementos iguales al recibido.
+     */
+    public static <T> int[]
+    rangoIgual(T[] arreglo, T elemento, Comparator<T> comparador) {
+        int i = cotaInferior(arreglo, elemento, comparador, 0, arreglo.length);
+        int j = cotaSuperior(arreglo, elemento, comparador, i, arreglo.length);
+        return new int[] { i, j };
+    }
+
+    /**
+     * Regresa el intervalo de índices del arreglo ordenado cuyos elementos
+     * son iguales al recibido, como un arreglo <code>{i, j}</code>.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el intervalo de índices de los elementos iguales al recibido.
+     */
+    public static <T extends Comparable<T>> int[]
+    rangoIgual(T[] arreglo, T elemento) {
+        return rangoIgual(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Cuenta los elementos del arreglo ordenado que están entre el mínimo y
+     * el máximo recibidos, ambos inclusivos.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde contar.
+     * @param minimo el mínimo del rango.
+     * @param maximo el máximo del rango.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el número de elementos entre el mínimo y el máximo; cero si el
+     *         mínimo es mayor que el máximo.
+     */
+    public static <T> int
+    cuentaEnRango(T[] arreglo, T minimo, T maximo, Comparator<T> comparador) {
+        int i = cotaInferior(arreglo, minimo, comparador, 0, arreglo.length);
+        int j = cotaSuperior(arreglo, maximo, comparador, i, arreglo.length);
+        return Math.max(j - i, 0);
+    }
+
+    /**
+     * Cuenta los elementos del arreglo ordenado que están entre el mínimo y
+     * el máximo recibidos, ambos inclusivos.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param minimo el mínimo del rango.
+     * @param maximo el máximo del rango.
+     * @return el número de elementos entre el mínimo y el máximo.
+     */
+    public static <T extends Comparable<T>> int
+    cuentaEnRango(T[] arreglo, T minimo, T maximo) {
+        return cuentaEnRango(arreglo, minimo, maximo, (a, b) -> a.compareTo(b));
+    }
+
+    /* Cota inferior del elemento en el intervalo [ini, fin). */
+    private static <T> int
+    cotaInferior(T[] a, T e, Comparator<T> c, int ini, int fin) {
+        while (ini < fin) {
+            int m = (ini + fin) >>> 1;
+            if (c.compare(a[m], e) < 0)
+                ini = m + 1;
+            else
+                fin = m;
+        }
+        return ini;
+    }
+
+    /* Cota superior del elemento en el intervalo [ini, fin). */
+    private static <T> int
+    cotaSuperior(T[] a, T e, Comparator<T> c, int ini, int fin) {
+        while (ini < fin) {
+            int m = (ini + fin) >>> 1;
+            if (c.compare(e, a[m]) < 0)
+                fin = m;
+            else
+                ini = m + 1;
+        }
+        return ini;
+    }
+
+    /**
+     * Hace una búsqueda binaria de varios elementos en el arreglo. Regresa un
+     * arreglo con el índice de la primera aparición de cada elemento buscado
+     * en el arreglo, o -1 si no se encuentra, sin importar el orden de los
+     * elementos a buscar. Cada búsqueda galopa a partir de la posición de la
+     * anterior, y vuelve a empezar desde el principio del arreglo si el
+     * elemento es menor; así que si los elementos a buscar están ordenados,
+     * buscar <em>m</em> elementos en un arreglo de <em>n</em> cuesta
+     * O(<em>m</em> log(<em>n</em>/<em>m</em>)) comparaciones en lugar de
+     * O(<em>m</em> log <em>n</em>).
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param claves los elementos a buscar.
+     * @param comparador el comparador para hacer la búsqueda.
+     * @return un arreglo con el índice de cada elemento en el arreglo, o -1
+     *         para los que no se encuentran.
+     */
+    public static <T> int[]
+    busquedaBinariaLote(T[] arreglo, T[] claves, Comparator<T> comparador) {
+        int[] r = new int[claves.length];
+        int ini = 0;
+        for (int i = 0; i < claves.length; i++) {
+            /* Todo lo anterior a ini es menor que la clave anterior; si la
+             * clave no es mayor que arreglo[ini-1], su primera aparición
+             * puede estar antes de ini. */
+            if (ini > 0 && comparador.compare(arreglo[ini-1], claves[i]) >= 0)
+                ini = 0;
+            ini = galopaInferior(arreglo, claves[i], comparador,
+                                 ini, arreglo.length);
+            r[i] = ini < arreglo.length &&
+                comparador.compare(arreglo[ini], claves[i]) == 0 ? ini : -1;
+        }
+        return r;
+    }
+
+    /**
+     * Hace una búsqueda binaria de varios elementos en el arreglo.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo ordenado cuyos elementos son comparables.
+     * @param claves los elementos a buscar.
+     * @return un arreglo con el índice de cada elemento en el arreglo, o -1
+     *         para los que no se encuentran.
+     */
+    public static <T extends Comparable<T>> int[]
+    busquedaBinariaLote(T[] arreglo, T[] claves) {
+        return busquedaBinariaLote(arreglo, claves, (a, b) -> a.compareTo(b));
+    }
+
+    /* Regresa el primer índice en [ini, fin) cuyo elemento no es menor que e,
+     * o fin si no hay; busca con saltos exponenciales a partir de ini. */
+    private static <T> int
+    galopaInferior(T[] a, T e, Comparator<T> c, int ini, int fin) {
+        int lo = ini;
+        int d = 1;
+        while (lo < fin && c.compare(a[lo], e) < 0) {
+            ini = lo + 1;
+            lo = fin - lo > d ? lo + d : fin;
+            d <<= 1;
+        }
+        return cotaInferior(a, e, c, ini, lo);
+    }
+
+    /**
+     * Ordena el arreglo de enteros recibido usando QuickSort. Las
+     * comparaciones se hacen directamente sobre los primitivos, sin
+     * comparadores ni envolturas.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(int[] arreglo) {
+        quickSort(arreglo, 0, arreglo.length);
+    }
+
+    /**
+     * Ordena el intervalo [<code>desde</code>, <code>hasta</code>) del arreglo
+     * de enteros recibido usando QuickSort.
+     * @param arreglo el arreglo a ordenar.
+     * @param desde el índice del primer elemento a ordenar (inclusivo).
+     * @param hasta el índice del último elemento a ordenar (exclusivo).
+     * @throws ExcepcionIndiceInvalido si el intervalo no es válido.
+     */
+    public static void quickSort(int[] arreglo, int desde, int hasta) {
+        revisaRango(arreglo.length, desde, hasta);
+        quickSortIntervalo(arreglo, desde, hasta - 1,
+                           limiteProfundidad(hasta - desde));
+    }
+
+    /* QuickSort con mediana de tres que recursa sobre la parte más chica;
+     * los intervalos chicos se ordenan con una red, y si se baja más de
+     * limite niveles el intervalo se termina con HeapSort. */
+    private static void
+    quickSortIntervalo(int[] a, int ini, int fin, int limite) {
+        while (fin - ini >= TAMANO_RED) {
+            if (limite-- == 0) {
+                heapSort(a, ini, fin);
+                return;
+            }
+            int p = particion(a, ini, fin);
+            if (p - ini < fin - p) {
+                quickSortIntervalo(a, ini, p - 1, limite);
+                ini = p + 1;
+            } else {
+                quickSortIntervalo(a, p + 1, fin, limite);
+                fin = p - 1;
+            }
+        }
+        red(a, ini, fin);
+    }
+
+    /* Ordena el intervalo [ini, fin] usando HeapSort. */
+    private static void heapSort(int[] a, int ini, int fin) {
+        int n = fin - ini + 1;
+        for (int i = n / 2 - 1; i >= 0; i--)
+            acomodaAbajo(a, ini, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            intercambia(a, ini, ini + k);
+            acomodaAbajo(a, ini, 0, k);
+        }
+    }
+
+    /* Baja el elemento en la posición i del montículo máximo de n elementos
+     * que empieza en el índice base del arreglo. */
+    private static void acomodaAbajo(int[] a, int base, int i, int n) {
+        int e = a[base + i];
+        int h;
+        while ((h = 2 * i + 1) < n) {
+            if (h + 1 < n && a[base + h] < a[base + h + 1])
+                h++;
+            if (e >= a[base + h])
+                break;
+            a[base + i] = a[base + h];
+            i = h;
+        }
+        a[base + i] = e;
+    }
+
+    /* Parte el intervalo alrededor de la mediana de tres; regresa la
+     * posición final del pivote. */
+    private static int particion(int[] a, int ini, int fin) {
+        int m = ini + (fin - ini) / 2;
+        if (a[m] < a[ini])
+            intercambia(a, m, ini);
+        if (a[fin] < a[ini])
+            intercambia(a, fin, ini);
+        if (a[fin] < a[m])
+            intercambia(a, fin, m);
+        intercambia(a, ini, m);
+        int p = a[ini];
+        int i = ini, j = fin + 1;
+        while (true) {
+            while (a[++i] < p)
+                ;
+            while (p < a[--j])
+                ;
+            if (i >= j)
+                break;
+            intercambia(a, i, j);
+        }
+        intercambia(a, ini, j);
+        return j;
+    }
+
+    /* Genera las redes de ordenamiento de hasta n elementos, con n potencia
+     * de dos. Se usa la mezcla par-impar de Batcher para n elementos; la red
+     * para m < n es la misma sin los comparadores que tocan índices mayores o
+     * iguales a m, que con esos elementos como infinitos no harían nada. Los
+     * comparadores se aplican con mínimos y máximos, sin ramas que dependan
+     * de los datos. */
+    private static int[][] generaRedes(int n) {
+        int[] pares = new int[n * n * 2];
+        int c = 0;
+        for (int p = 1; p < n; p <<= 1)
+            for (int k = p; k >= 1; k >>= 1)
+                for (int j = k % p; j + k < n; j += 2 * k)
+                    for (int i = 0; i < Math.min(k, n - j - k); i++)
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            pares[c++] = i + j;
+                            pares[c++] = i + j + k;
+                        }
+        int[][] redes = new int[n + 1][];
+        for (int m = 0; m <= n; m++) {
+            int l = 0;
+            for (int k = 0; k < c; k += 2)
+                if (pares[k+1] < m)
+                    l += 2;
+            redes[m] = new int[l];
+            l = 0;
+            for (int k = 0; k < c; k += 2)
+                if (pares[k+1] < m) {
+                    redes[m][l++] = pares[k];
+                    redes[m][l++] = pares[k+1];
+                }
+        }
+        return redes;
+    }
+
+    /* Ordena el intervalo [ini, fin], de a lo más TAMANO_RED elementos, con
+     * la red de ordenamiento de su tamaño. */
+    private static void red(int[] a, int ini, int fin) {
+        if (fin <= ini)
+            return;
+        int[] r = REDES[fin - ini + 1];
+        for (int k = 0; k < r.length; k += 2) {
+            int i = ini + r[k];
+            int j = ini + r[k+1];
+            int x = a[i];
+            int y = a[j];
+            a[i] = Math.min(x, y);
+            a[j] = Math.max(x, y);
+        }
+    }
+
+    /* Intercambia dos elementos de un arreglo de enteros. */
+    private static void intercambia(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * Ordena el arreglo de enteros largos recibido usando QuickSort.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(long[] arreglo) {
+        quickSort(arreglo, 0, arreglo.length);
+    }
+
+    /**
+     * Ordena el intervalo [<code>desde</code>, <code>hasta</code>) del arreglo
+     * de enteros largos recibido usando QuickSort.
+     * @param arreglo el arreglo a ordenar.
+     * @param desde el índice del primer elemento a ordenar (inclusivo).
+     * @param hasta el índice del último elemento a ordenar (exclusivo).
+     * @throws ExcepcionIndiceInvalido si el intervalo no es válido.
+     */
+    public static void quickSort(long[] arreglo, int desde, int hasta) {
+        revisaRango(arreglo.length, desde, hasta);
+        quickSortIntervalo(arreglo, desde, hasta - 1,
+                           limiteProfundidad(hasta - desde));
+    }
+
+    /* QuickSort con mediana de tres que recursa sobre la parte más chica;
+     * los intervalos chicos se ordenan con una red, y si se baja más de
+     * limite niveles el intervalo se termina con HeapSort. */
+    private static void
+    quickSortIntervalo(long[] a, int ini, int fin, int limite) {
+        while (fin - ini >= TAMANO_RED) {
+            if (limite-- == 0) {
+                heapSort(a, ini, fin);
+                return;
+            }
+            int p = particion(a, ini, fin);
+            if (p - ini < fin - p) {
+                quickSortIntervalo(a, ini, p - 1, limite);
+                ini = p + 1;
+            } else {
+                quickSortIntervalo(a, p + 1, fin, limite);
+                fin = p - 1;
+            }
+        }
+        red(a, ini, fin);
+    }
+
+    /* Ordena el intervalo [ini, fin] usando HeapSort. */
+    private static void heapSort(long[] a, int ini, int fin) {
+        int n = fin - ini + 1;
+        for (int i = n / 2 - 1; i >= 0; i--)
+            acomodaAbajo(a, ini, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            intercambia(a, ini, ini + k);
+            acomodaAbajo(a, ini, 0, k);
+        }
+    }
+
+    /* Baja el elemento en la posición i del montículo máximo de n elementos
+     * que empieza en el índice base del arreglo. */
+    private static void acomodaAbajo(long[] a, int base, int i, int n) {
+        long e = a[base + i];
+        int h;
+        while ((h = 2 * i + 1) < n) {
+            if (h + 1 < n && a[base + h] < a[base + h + 1])
+                h++;
+            if (e >= a[base + h])
+                break;
+            a[base + i] = a[base + h];
+            i = h;
+        }
+        a[base + i] = e;
+    }
+
+    /* Parte el intervalo alrededor de la mediana de tres; regresa la
+     * posición final del pivote. */
+    private static int particion(long[] a, int ini, int fin) {
+        int m = ini + (fin - ini) / 2;
+        if (a[m] < a[ini])
+            intercambia(a, m, ini);
+        if (a[fin] < a[ini])
+            intercambia(a, fin, ini);
+        if (a[fin] < a[m])
+            intercambia(a, fin, m);
+        intercambia(a, ini, m);
+        long p = a[ini];
+        int i = ini, j = fin + 1;
+        while (true) {
+            while (a[++i] < p)
+                ;
+            while (p < a[--j])
+                ;
+            if (i >= j)
+                break;
+            intercambia(a, i, j);
+        }
+        intercambia(a, ini, j);
+        return j;
+    }
+
+    /* Ordena el intervalo [ini, fin], de a lo más TAMANO_RED elementos, con
+     * la red de ordenamiento de su tamaño. */
+    private static void red(long[] a, int ini, int fin) {
+        if (fin <= ini)
+            return;
+        int[] r = REDES[fin - ini + 1];
+        for (int k = 0; k < r.length; k += 2) {
+            int i = ini + r[k];
+            int j = ini + r[k+1];
+            long x = a[i];
+            long y = a[j];
+            a[i] = Math.min(x, y);
+            a[j] = Math.max(x, y);
+        }
+    }
+
+    /* Intercambia dos elementos de un arreglo de enteros largos. */
+    private static void intercambia(long[] a, int i, int j) {
+        long t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * Ordena el arreglo de dobles recibido usando QuickSort. El orden es el
+     * mismo que el de {@link Double#compare}: <code>-0.0</code> va antes que
+     * <code>0.0</code>, y los <code>NaN</code> van al final.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(double[] arreglo) {
+        quickSort(arreglo, 0, arreglo.length);
+    }
+
+    /**
+     * Ordena el intervalo [<code>desde</code>, <code>hasta</code>) del arreglo
+     * de dobles recibido usando QuickSort, con el orden de {@link
+     * Double#compare}.
+     * @param arreglo el arreglo a ordenar.
+     * @param desde el índice del primer elemento a ordenar (inclusivo).
+     * @param hasta el índice del último elemento a ordenar (exclusivo).
+     * @throws ExcepcionIndiceInvalido si el intervalo no es válido.
+     */
+    public static void quickSort(double[] arreglo, int desde, int hasta) {
+        revisaRango(arreglo.length, desde, hasta);
+        /* Los NaN van al final y no participan en el ordenamiento. */
+        int n = hasta;
+        for (int i = hasta - 1; i >= desde; i--)
+            if (arreglo[i] != arreglo[i])
+                intercambia(arreglo, i, --n);
+        quickSortIntervalo(arreglo, desde, n - 1, limiteProfundidad(n - desde));
+        /* El operador < no distingue -0.0 de 0.0; los reacomodamos. */
+        int i = desde;
+        int j = n;
+        while (i < j) {
+            int m = (i + j) >>> 1;
+            if (arreglo[m] < 0.0)
+                i = m + 1;
+            else
+                j = m;
+        }
+        int negativos = 0;
+        for (j = i; j < n && arreglo[j] == 0.0; j++)
+            if (Double.doubleToRawLongBits(arreglo[j]) < 0)
+                negativos++;
+        for (; i < j; i++)
+            arreglo[i] = negativos-- > 0 ? -0.0 : 0.0;
+    }
+
+    /* QuickSort con mediana de tres que recursa sobre la parte más chica; si
+     * se baja más de limite niveles el intervalo se termina con HeapSort. */
+    private static void
+    quickSortIntervalo(double[] a, int ini, int fin, int limite) {
+        while (fin - ini >= UMBRAL_INSERCION) {
+            if (limite-- == 0) {
+                heapSort(a, ini, fin);
+                return;
+            }
+            int p = particion(a, ini, fin);
+            if (p - ini < fin - p) {
+                quickSortIntervalo(a, ini, p - 1, limite);
+                ini = p + 1;
+            } else {
+                quickSortIntervalo(a, p + 1, fin, limite);
+                fin = p - 1;
+            }
+        }
+        insercion(a, ini, fin);
+    }
+
+    /* Ordena el intervalo [ini, fin] usando HeapSort. */
+    private static void heapSort(double[] a, int ini, int fin) {
+        int n = fin - ini + 1;
+        for (int i = n / 2 - 1; i >= 0; i--)
+            acomodaAbajo(a, ini, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            intercambia(a, ini, ini + k);
+            acomodaAbajo(a, ini, 0, k);
+        }
+    }
+
+    /* Baja el elemento en la posición i del montículo máximo de n elementos
+     * que empieza en el índice base del arreglo. */
+    private static void acomodaAbajo(double[] a, int base, int i, int n) {
+        double e = a[base + i];
+        int h;
+        while ((h = 2 * i + 1) < n) {
+            if (h + 1 < n && a[base + h] < a[base + h + 1])
+                h++;
+            if (e >= a[base + h])
+                break;
+            a[base + i] = a[base + h];
+            i = h;
+        }
+        a[base + i] = e;
+    }
+
+    /* Parte el intervalo alrededor de la mediana de tres; regresa la
+     * posición final del pivote. */
+    private static int particion(double[] a, int ini, int fin) {
+        int m = ini + (fin - ini) / 2;
+        if (a[m] < a[ini])
+            intercambia(a, m, ini);
+        if (a[fin] < a[ini])
+            intercambia(a, fin, ini);
+        if (a[fin] < a[m])
+            intercambia(a, fin, m);
+        intercambia(a, ini, m);
+        double p = a[ini];
+        int i = ini, j = fin + 1;
+        while (true) {
+            while (a[++i] < p)
+                ;
+            while (p < a[--j])
+                ;
+            if (i >= j)
+                break;
+            intercambia(a, i, j);
+        }
+        intercambia(a, ini, j);
+        return j;
+    }
+
+    /* Ordena por inserción el intervalo [ini, fin]. */
+    private static void insercion(double[] a, int ini, int fin) {
+        for (int i = ini + 1; i <= fin; i++) {
+            double e = a[i];
+            int j = i - 1;
+            while (j >= ini && e < a[j]) {
+                a[j+1] = a[j];
+                j--;
+            }
+            a[j+1] = e;
+        }
+    }
+
+    /* Intercambia dos elementos de un arreglo de dobles. */
+    private static void intercambia(double[] a, int i, int j) {
+        double t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * Ordena el arreglo de enteros recibido usando RadixSort LSD, un byte a la
+     * vez. Los histogramas de los cuatro bytes se calculan en una sola pasada,
+     * y las pasadas en las que todos los elementos tienen el mismo byte se
+     * omiten. El bit de signo se invierte en el byte más significativo, así
+     * que los negativos quedan antes que los positivos. Usa un solo arreglo
+     * auxiliar del tamaño del recibido.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void radixSort(int[] arreglo) {
+        int n = arreglo.length;
+        if (n < 2)
+            return;
+        int digitos = Integer.SIZE / BITS_DIGITO;
+        int[][] cuentas = new int[digitos][CUBETAS];
+        for (int x : arreglo)
+            for (int d = 0; d < digitos; d++)
+                cuentas[d][digito(x, d, digitos)]++;
+        int[] a = arreglo;
+        int[] b = new int[n];
+        for (int d = 0; d < digitos; d++) {
+            int[] cuenta = cuentas[d];
+            if (cuenta[digito(a[0], d, digitos)] == n)
+                continue;
+            acumula(cuenta);
+            for (int x : a)
+                b[cuenta[digito(x, d, digitos)]++] = x;
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        if (a != arreglo)
+            System.arraycopy(a, 0, arreglo, 0, n);
+    }
+
+    /**
+     * Ordena el arreglo de enteros largos recibido usando RadixSort LSD, un
+     * byte a la vez, con el mismo esquema que {@link #radixSort(int[])}.
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void radixSort(long[] arreglo) {
+        int n = arreglo.length;
+        if (n < 2)
+            return;
+        int digitos = Long.SIZE / BITS_DIGITO;
+        int[][] cuentas = new int[digitos][CUBETAS];
+        for (long x : arreglo)
+            for (int d = 0; d < digitos; d++)
+                cuentas[d][digito(x, d, digitos)]++;
+        long[] a = arreglo;
+        long[] b = new long[n];
+        for (int d = 0; d < digitos; d++) {
+            int[] cuenta = cuentas[d];
+            if (cuenta[digito(a[0], d, digitos)] == n)
+                continue;
+            acumula(cuenta);
+            for (long x : a)
+                b[cuenta[digito(x, d, digitos)]++] = x;
+            long[] t = a;
+            a = b;
+            b = t;
+        }
+        if (a != arreglo)
+            System.arraycopy(a, 0, arreglo, 0, n);
+    }
+
+    /**
+     * Ordena el arreglo recibido usando RadixSort LSD sobre la llave entera
+     * que regresa la función recibida. Las llaves se calculan una sola vez, y
+     * las pasadas innecesarias se omiten. El ordenamiento es estable.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param llave la función que regresa la llave de cada elemento.
+     */
+    public static <T> void
+    radixSortLlaveEntera(T[] arreglo, ToIntFunction<? super T> llave) {
+        long[] llaves = new long[arreglo.length];
+        /* Recorremos las llaves a [0, 2^32) para que los cuatro bytes altos
+         * sean cero y sus pasadas se omitan. */
+        for (int i = 0; i < arreglo.length; i++)
+            llaves[i] = (long)llave.applyAsInt(arreglo[i]) - Integer.MIN_VALUE;
+        radixSort(arreglo, llaves);
+    }
+
+    /**
+     * Ordena el arreglo recibido usando RadixSort LSD sobre la llave entera
+     * larga que regresa la función recibida. Las llaves se calculan una sola
+     * vez, y las pasadas innecesarias se omiten. El ordenamiento es estable.
+     * @param <T> tipo del que puede ser el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param llave la función que regresa la llave de cada elemento.
+     */
+    public static <T> void
+    radixSortLlaveLarga(T[] arreglo, ToLongFunction<? super T> llave) {
+        long[] llaves = new long[arreglo.length];
+        for (int i = 0; i < arreglo.length; i++)
+            llaves[i] = llave.applyAsLong(arreglo[i]);
+        radixSort(arreglo, llaves);
+    }
+
+    /* Ordena el arreglo y sus llaves por las llaves, moviendo ambos. */
+    private static <T> void radixSort(T[] arreglo, long[] llaves) {
+        int n = arreglo.length;
+        if (n < 2)
+            return;
+        int digitos = Long.SIZE / BITS_DIGITO;
+        int[][] cuentas = new int[digitos][CUBETAS];
+        for (long x : llaves)
+            for (int d = 0; d < digitos; d++)
+                cuentas[d][digito(x, d, digitos)]++;
+        T[] a = arreglo;
+        T[] b = arreglo.clone();
+        long[] k = llaves;
+        long[] l = new long[n];
+        for (int d = 0; d < digitos; d++) {
+            int[] cuenta = cuentas[d];
+            if (cuenta[digito(k[0], d, digitos)] == n)
+                continue;
+            acumula(cuenta);
+            for (int i = 0; i < n; i++) {
+                int p = cuenta[digito(k[i], d, digitos)]++;
+                b[p] = a[i];
+                l[p] = k[i];
+            }
+            T[] t = a;
+            a = b;
+            b = t;
+            long[] u = k;
+            k = l;
+            l = u;
+        }
+        if (a != arreglo)
+            System.arraycopy(a, 0, arreglo, 0, n);
+    }
+
+    /* Regresa el d-ésimo byte (de menos a más significativo) del entero, con
+     * el bit de signo invertido en el más significativo. */
+    private static int digito(int x, int d, int digitos) {
+        int r = (x >>> (d * BITS_DIGITO)) & (CUBETAS - 1);
+        return d == digitos - 1 ? r ^ (CUBETAS >> 1) : r;
+    }
+
+    /* Regresa el d-ésimo byte (de menos a más significativo) del entero
+     * largo, con el bit de signo invertido en el más significativo. */
+    private static int digito(long x, int d, int digitos) {
+        int r = (int)(x >>> (d * BITS_DIGITO)) & (CUBETAS - 1);
+        return d == digitos - 1 ? r ^ (CUBETAS >> 1) : r;
+    }
+
+    /* Convierte las cuentas de un histograma en los índices donde empieza
+     * cada cubeta. */
+    private static void acumula(int[] cuenta) {
+        int suma = 0;
+        for (int i = 0; i < cuenta.length; i++) {
+            int c = cuenta[i];
+            cuenta[i] = suma;
+            suma += c;
+        }
+    }
+
+    /**
+     * Hace una búsqueda binaria del entero en el arreglo ordenado. Regresa el
+     * índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(int[] arreglo, int elemento) {
+        return busquedaBinaria(arreglo, 0, arreglo.length, elemento);
+    }
+
+    /**
+     * Hace una búsqueda binaria del entero en el intervalo [<code>desde</code>,
+     * <code>hasta</code>) del arreglo, que debe estar ordenado.
+     * @param arreglo el arreglo dónde buscar.
+     * @param desde el índice del primer elemento del intervalo (inclusivo).
+     * @param hasta el índice del último elemento del intervalo (exclusivo).
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @throws ExcepcionIndiceInvalido si el intervalo no es válido.
+     */
+    public static int
+    busquedaBinaria(int[] arreglo, int desde, int hasta, int elemento) {
+        revisaRango(arreglo.length, desde, hasta);
+        int ini = desde;
+        int fin = hasta - 1;
+        while (ini <= fin) {
+            int m = (ini + fin) >>> 1;
+            if (arreglo[m] < elemento)
+                ini = m + 1;
+            else if (arreglo[m] > elemento)
+                fin = m - 1;
+            else
+                return m;
+        }
+        return -1;
+    }
+
+    /**
+     * Hace una búsqueda binaria del entero largo en el arreglo ordenado.
+     * Regresa el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(long[] arreglo, long elemento) {
+        return busquedaBinaria(arreglo, 0, arreglo.length, elemento);
+    }
+
+    /**
+     * Hace una búsqueda binaria del entero largo en el intervalo
+     * [<code>desde</code>, <code>hasta</code>) del arreglo, que debe estar
+     * ordenado.
+     * @param arreglo el arreglo dónde buscar.
+     * @param desde el índice del primer elemento del intervalo (inclusivo).
+     * @param hasta el índice del último elemento del intervalo (exclusivo).
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @throws ExcepcionIndiceInvalido si el intervalo no es válido.
+     */
+    public static int
+    busquedaBinaria(long[] arreglo, int desde, int hasta, long elemento) {
+        revisaRango(arreglo.length, desde, hasta);
+        int ini = desde;
+        int fin = hasta - 1;
+        while (ini <= fin) {
+            int m = (ini + fin) >>> 1;
+            if (arreglo[m] < elemento)
+                ini = m + 1;
+            else if (arreglo[m] > elemento)
+                fin = m - 1;
+            else
+                return m;
+        }
+        return -1;
+    }
+
+    /**
+     * Hace una búsqueda binaria del doble en el arreglo, que debe estar
+     * ordenado con el orden de {@link Double#compare}. Regresa el índice del
+     * elemento en el arreglo, o -1 si no se encuentra.
+     * @param arreglo el arreglo dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(double[] arreglo, double elemento) {
+        return busquedaBinaria(arreglo, 0, arreglo.length, elemento);
+    }
+
+    /**
+     * Hace una búsqueda binaria del doble en el intervalo [<code>desde</code>,
+     * <code>hasta</code>) del arreglo, que debe estar ordenado con el orden de
+     * {@link Double#compare}.
+     * @param arreglo el arreglo dónde buscar.
+     * @param desde el índice del primer elemento del intervalo (inclusivo).
+     * @param hasta el índice del último elemento del intervalo (exclusivo).
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     * @throws ExcepcionIndiceInvalido si el intervalo no es válido.
+     */
+    public static int
+    busquedaBinaria(double[] arreglo, int desde, int hasta, double elemento) {
+        revisaRango(arreglo.length, desde, hasta);
+        int ini = desde;
+        int fin = hasta - 1;
+        while (ini <= fin) {
+            int m = (ini + fin) >>> 1;
+            int c = Double.compare(arreglo[m], elemento);
+            if (c < 0)
+                ini = m + 1;
+            else if (c > 0)
+                fin = m - 1;
+            else
+                return m;
+        }
+        return -1;
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado de enteros
+     * que no es menor que el recibido, o la longitud del arreglo si no hay
+     * ninguno.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento que no es menor que el recibido.
+     */
+    public static int cotaInferior(int[] arreglo, int elemento) {
+        int ini = 0;
+        int fin = arreglo.length;
+        while (ini < fin) {
+            int m = (ini + fin) >>> 1;
+            if (arreglo[m] < elemento)
+                ini = m + 1;
+            else
+                fin = m;
+        }
+        return ini;
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado de enteros
+     * que es mayor que el recibido, o la longitud del arreglo si no hay
+     * ninguno.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento mayor que el recibido.
+     */
+    public static int cotaSuperior(int[] arreglo, int elemento) {
+        return cotaSuperior(arreglo, elemento, 0);
+    }
+
+    /* Cota superior del elemento en el intervalo [ini, arreglo.length). */
+    private static int cotaSuperior(int[] arreglo, int elemento, int ini) {
+        int fin = arreglo.length;
+        while (ini < fin) {
+            int m = (ini + fin) >>> 1;
+            if (elemento < arreglo[m])
+                fin = m;
+            else
+                ini = m + 1;
+        }
+        return ini;
+    }
+
+    /**
+     * Regresa el intervalo [<em>i</em>, <em>j</em>) de índices del arreglo
+     * ordenado de enteros cuyos elementos son iguales al recibido, como un
+     * arreglo <code>{i, j}</code>.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el intervalo de índices de los elementos iguales al recibido.
+     */
+    public static int[] rangoIgual(int[] arreglo, int elemento) {
+        int i = cotaInferior(arreglo, elemento);
+        return new int[] { i, cotaSuperior(arreglo, elemento, i) };
+    }
+
+    /**
+     * Cuenta los elementos del arreglo ordenado de enteros que están entre el
+     * mínimo y el máximo recibidos, ambos inclusivos.
+     * @param arreglo el arreglo ordenado dónde contar.
+     * @param minimo el mínimo del rango.
+     * @param maximo el máximo del rango.
+     * @return el número de elementos entre el mínimo y el máximo; cero si el
+     *         mínimo es mayor que el máximo.
+     */
+    public static int cuentaEnRango(int[] arreglo, int minimo, int maximo) {
+        int i = cotaInferior(arreglo, minimo);
+        return Math.max(cotaSuperior(arreglo, maximo, i) - i, 0);
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado de enteros
+     * largos que no es menor que el recibido, o la longitud del arreglo si no
+     * hay ninguno.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento que no es menor que el recibido.
+     */
+    public static int cotaInferior(long[] arreglo, long elemento) {
+        int ini = 0;
+        int fin = arreglo.length;
+        while (ini < fin) {
+            int m = (ini + fin) >>> 1;
+            if (arreglo[m] < elemento)
+                ini = m + 1;
+            else
+                fin = m;
+        }
+        return ini;
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado de enteros
+     * largos que es mayor que el recibido, o la longitud del arreglo si no hay
+     * ninguno.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento mayor que el recibido.
+     */
+    public static int cotaSuperior(long[] arreglo, long elemento) {
+        return cotaSuperior(arreglo, elemento, 0);
+    }
+
+    /* Cota superior del elemento en el intervalo [ini, arreglo.length). */
+    private static int cotaSuperior(long[] arreglo, long elemento, int ini) {
+        int fin = arreglo.length;
+        while (ini < fin) {
+            int m = (ini + fin) >>> 1;
+            if (elemento < arreglo[m])
+                fin = m;
+            else
+                ini = m + 1;
+        }
+        return ini;
+    }
+
+    /**
+     * Regresa el intervalo [<em>i</em>, <em>j</em>) de índices del arreglo
+     * ordenado de enteros largos cuyos elementos son iguales al recibido, como
+     * un arreglo <code>{i, j}</code>.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el intervalo de índices de los elementos iguales al recibido.
+     */
+    public static int[] rangoIgual(long[] arreglo, long elemento) {
+        int i = cotaInferior(arreglo, elemento);
+        return new int[] { i, cotaSuperior(arreglo, elemento, i) };
+    }
+
+    /**
+     * Cuenta los elementos del arreglo ordenado de enteros largos que están
+     * entre el mínimo y el máximo recibidos, ambos inclusivos.
+     * @param arreglo el arreglo ordenado dónde contar.
+     * @param minimo el mínimo del rango.
+     * @param maximo el máximo del rango.
+     * @return el número de elementos entre el mínimo y el máximo; cero si el
+     *         mínimo es mayor que el máximo.
+     */
+    public static int cuentaEnRango(long[] arreglo, long minimo, long maximo) {
+        int i = cotaInferior(arreglo, minimo);
+        return Math.max(cotaSuperior(arreglo, maximo, i) - i, 0);
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado de dobles
+     * que no es menor que el recibido, o la longitud del arreglo si no hay
+     * ninguno.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento que no es menor que el recibido.
+     */
+    public static int cotaInferior(double[] arreglo, double elemento) {
+        int ini = 0;
+        int fin = arreglo.length;
+        while (ini < fin) {
+            int m = (ini + fin) >>> 1;
+            if (Double.compare(arreglo[m], elemento) < 0)
+                ini = m + 1;
+            else
+                fin = m;
+        }
+        return ini;
+    }
+
+    /**
+     * Regresa el índice del primer elemento del arreglo ordenado de dobles
+     * que es mayor que el recibido, o la longitud del arreglo si no hay
+     * ninguno.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del primer elemento mayor que el recibido.
+     */
+    public static int cotaSuperior(double[] arreglo, double elemento) {
+        return cotaSuperior(arreglo, elemento, 0);
+    }
+
+    /* Cota superior del elemento en el intervalo [ini, arreglo.length). */
+    private static int
+    cotaSuperior(double[] arreglo, double elemento, int ini) {
+        int fin = arreglo.length;
+        while (ini < fin) {
+            int m = (ini + fin) >>> 1;
+            if (Double.compare(elemento, arreglo[m]) < 0)
+                fin = m;
+            else
+                ini = m + 1;
+        }
+        return ini;
+    }
+
+    /**
+     * Regresa el intervalo [<em>i</em>, <em>j</em>) de índices del arreglo
+     * ordenado de dobles cuyos elementos son iguales al recibido, como un
+     * arreglo <code>{i, j}</code>.
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el intervalo de índices de los elementos iguales al recibido.
+     */
+    public static int[] rangoIgual(double[] arreglo, double elemento) {
+        int i = cotaInferior(arreglo, elemento);
+        return new int[] { i, cotaSuperior(arreglo, elemento, i) };
+    }
+
+    /**
+     * Cuenta los elementos del arreglo ordenado de dobles que están entre el
+     * mínimo y el máximo recibidos, ambos inclusivos.
+     * @param arreglo el arreglo ordenado dónde contar.
+     * @param minimo el mínimo del rango.
+     * @param maximo el máximo del rango.
+     * @return el número de elementos entre el mínimo y el máximo; cero si el
+     *         mínimo es mayor que el máximo.
+     */
+    public static int
+    cuentaEnRango(double[] arreglo, double minimo, double maximo) {
+        int i = cotaInferior(arreglo, minimo);
+        return Math.max(cotaSuperior(arreglo, maximo, i) - i, 0);
+    }
+
+    /* Revisa que [desde, hasta) sea un intervalo válido de un arreglo. */
+    private static void revisaRango(int longitud, int desde, int hasta) {
+        if (desde < 0 || hasta > longitud || desde > hasta)
+            throw new ExcepcionIndiceInvalido("Intervalo inválido: [" + desde +
+                                              ", " + hasta + ")");
+    }
 }
@@ -0,0 +1,68 @@
+package mx.unam.ciencias.edd;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interfaz para codificar elementos como registros binarios de tamaño fijo,
+ * para poder escribirlos y leerlos de archivos.
+ */
+public interface CodificadorRegistro<T> {
+
+    /**
+     * Regresa el tamaño en bytes de cada registro.
+     * @return el tamaño en bytes de cada registro.
+     */
+    public int getTamano();
+
+    /**
+     * Escribe el elemento en el buffer a partir de su posición actual,
+     * avanzándola exactamente {@link #getTamano} bytes.
+     * @param elemento el elemento a escribir.
+     * @param buffer el buffer donde se escribe.
+     */
+    public void codifica(T elemento, ByteBuffer buffer);
+
+    /**
+     * Lee un elemento del buffer a partir de su posición actual, avanzándola
+     * exactamente {@link #getTamano} bytes.
+     * @param buffer el buffer de donde se lee.
+     * @return el elemento leído.
+     */
+    public T decodifica(ByteBuffer buffer);
+
+    /**
+     * Regresa un codificador para enteros, de cuatro bytes.
+     * @return un codificador para enteros.
+     */
+    public static CodificadorRegistro<Integer> enteros() {
+        return new CodificadorRegistro<Integer>() {
+            @Override public int getTamano() {
+                return Integer.BYTES;
+            }
+            @Override public void codifica(Integer e, ByteBuffer buffer) {
+                buffer.putInt(e);
+            }
+            @Override public Integer decodifica(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+    }
+
+    /**
+     * Regresa un codificador para enteros largos, de ocho bytes.
+     * @return un codificador para enteros largos.
+     */
+    public static CodificadorRegistro<Long> largos() {
+        return new CodificadorRegistro<Long>() {
+            @Override public int getTamano() {
+                return Long.BYTES;
+            }
+            @Override public void codifica(Long e, ByteBuffer buffer) {
+                buffer.putLong(e);
+            }
+            @Override public Long decodifica(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+}
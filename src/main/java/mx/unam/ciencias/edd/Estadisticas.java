@@ -0,0 +1,120 @@
+package mx.unam.ciencias.edd;
+
+/**
+ * <p>Clase para estadísticas de ordenamientos y búsquedas: comparaciones,
+ * intercambios, movimientos, profundidad máxima de recursión y tiempo
+ * transcurrido.</p>
+ *
+ * <p>Las versiones de los métodos de {@link Arreglos} que reciben unas
+ * estadísticas acumulan en ellas lo que hacen, así que el mismo objeto se
+ * puede usar para varias llamadas; {@link #reinicia} pone todo en cero. Los
+ * métodos que no las reciben no miden nada.</p>
+ *
+ * <p>Un intercambio cuenta como tal, y no como dos movimientos; los
+ * movimientos son las escrituras sueltas de elementos, como las de
+ * inserción, HeapSort o las mezclas. La profundidad es el número de niveles
+ * de partición en QuickSort, y la altura de la pila de corridas en
+ * MergeSort.</p>
+ *
+ * <p>Las estadísticas no son seguras para hilos, y los ordenamientos
+ * paralelos no las reciben.</p>
+ */
+public class Estadisticas {
+
+    /* Número de comparaciones. */
+    private long comparaciones;
+    /* Número de intercambios. */
+    private long intercambios;
+    /* Número de movimientos. */
+    private long movimientos;
+    /* Profundidad máxima. */
+    private int profundidad;
+    /* Tiempo transcurrido, en nanosegundos. */
+    private long nanosegundos;
+
+    /**
+     * Regresa el número de comparaciones.
+     * @return el número de comparaciones.
+     */
+    public long getComparaciones() {
+        return comparaciones;
+    }
+
+    /**
+     * Regresa el número de intercambios.
+     * @return el número de intercambios.
+     */
+    public long getIntercambios() {
+        return intercambios;
+    }
+
+    /**
+     * Regresa el número de movimientos.
+     * @return el número de movimientos.
+     */
+    public long getMovimientos() {
+        return movimientos;
+    }
+
+    /**
+     * Regresa la profundidad máxima de recursión.
+     * @return la profundidad máxima de recursión.
+     */
+    public int getProfundidadMaxima() {
+        return profundidad;
+    }
+
+    /**
+     * Regresa el tiempo transcurrido, en nanosegundos.
+     * @return el tiempo transcurrido, en nanosegundos.
+     */
+    public long getNanosegundos() {
+        return nanosegundos;
+    }
+
+    /**
+     * Pone en cero todas las estadísticas.
+     */
+    public void reinicia() {
+        comparaciones = intercambios = movimientos = nanosegundos = 0;
+        profundidad = 0;
+    }
+
+    /* Cuenta una comparación. */
+    void comparacion() {
+        comparaciones++;
+    }
+
+    /* Cuenta n intercambios. */
+    void intercambios(long n) {
+        intercambios += n;
+    }
+
+    /* Cuenta n movimientos. */
+    void movimientos(long n) {
+        movimientos += n;
+    }
+
+    /* Registra una profundidad alcanzada. */
+    void profundidad(int p) {
+        if (p > profundidad)
+            profundidad = p;
+    }
+
+    /* Suma tiempo transcurrido. */
+    void nanosegundos(long n) {
+        nanosegundos += n;
+    }
+
+    /**
+     * Regresa una representación en cadena de las estadísticas.
+     * @return una representación en cadena de las estadísticas.
+     */
+    @Override public String toString() {
+        return String.format("comparaciones: %d, intercambios: %d, " +
+                             "movimientos: %d, profundidad: %d, " +
+                             "nanosegundos: %d",
+                             comparaciones, intercambios, movimientos,
+                             profundidad, nanosegundos);
+    }
+}
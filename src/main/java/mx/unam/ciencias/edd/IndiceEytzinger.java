@@ -0,0 +1,97 @@
+package mx.unam.ciencias.edd;
+
+import java.util.Comparator;
+
+/**
+ * <p>Clase genérica para índices de búsqueda sobre arreglos ordenados.</p>
+ *
+ * <p>El índice se construye una sola vez a partir de un arreglo ordenado, y
+ * guarda sus elementos en el orden de Eytzinger: el orden de un recorrido BFS
+ * del árbol binario de búsqueda implícito, con la raíz en la posición 1 y los
+ * hijos del elemento en la posición <em>k</em> en las posiciones 2<em>k</em> y
+ * 2<em>k</em>+1. Los primeros niveles de todas las búsquedas quedan juntos en
+ * memoria, y cada paso del descenso sólo calcula el siguiente índice, sin
+ * saltos condicionales que dependan del resultado de la comparación.</p>
+ *
+ * <p>Las búsquedas regresan el índice del elemento en el arreglo ordenado
+ * original, igual que {@link Arreglos#busquedaBinaria(Object[],Object,
+ * Comparator)}; si hay elementos repetidos, se regresa el primero.</p>
+ *
+ * @param <T> El tipo de los elementos del índice.
+ */
+public class IndiceEytzinger<T> {
+
+    /**
+     * Número máximo de elementos en un índice. Con él, el descenso nunca pasa
+     * de la posición 2<em>n</em>+1, que todavía cabe en un <code>int</code>.
+     */
+    public static final int MAXIMO_ELEMENTOS = (1 << 30) - 1;
+
+    /* Los elementos en orden de Eytzinger; la posición 0 no se usa. */
+    private T[] elementos;
+    /* El índice en el arreglo original de cada elemento. */
+    private int[] indices;
+    /* El comparador de los elementos. */
+    private Comparator<T> comparador;
+    /* El número de elementos. */
+    private int n;
+
+    /**
+     * Construye un índice a partir de un arreglo ordenado. El arreglo no se
+     * modifica, y cambios posteriores en él no se reflejan en el índice.
+     * @param ordenado un arreglo ordenado con el comparador recibido.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @throws IllegalArgumentException si el arreglo tiene más de {@link
+     *         #MAXIMO_ELEMENTOS} elementos.
+     */
+    public IndiceEytzinger(T[] ordenado, Comparator<T> comparador) {
+        if (ordenado.length > MAXIMO_ELEMENTOS)
+            throw new IllegalArgumentException("Demasiados elementos: " +
+                                               ordenado.length);
+        this.comparador = comparador;
+        n = ordenado.length;
+        @SuppressWarnings("unchecked") T[] e = (T[])new Object[n + 1];
+        elementos = e;
+        indices = new int[n + 1];
+        construye(ordenado, 0, 1);
+    }
+
+    /* Llena el subárbol con raíz en k con los elementos del arreglo a partir
+     * de i, en orden; regresa el siguiente índice sin usar. */
+    private int construye(T[] ordenado, int i, int k) {
+        if (k <= n) {
+            i = construye(ordenado, i, 2 * k);
+            elementos[k] = ordenado[i];
+            indices[k] = i++;
+            i = construye(ordenado, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    /**
+     * Regresa el número de elementos en el índice.
+     * @return el número de elementos en el índice.
+     */
+    public int getElementos() {
+        return n;
+    }
+
+    /**
+     * Busca un elemento en el índice.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo original, o -1 si no se
+     *         encuentra.
+     */
+    public int busca(T elemento) {
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (comparador.compare(elementos[k], elemento) < 0 ? 1 : 0);
+        }
+        /* Quitamos los pasos a la derecha del final del descenso; lo que
+         * queda es el primer elemento mayor o igual, o 0 si no hay. */
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        if (k == 0 || comparador.compare(elementos[k], elemento) != 0)
+            return -1;
+        return indices[k];
+    }
+}
@@ -0,0 +1,83 @@
+package mx.unam.ciencias.edd;
+
+/**
+ * <p>Clase para índices de búsqueda sobre arreglos ordenados de enteros.</p>
+ *
+ * <p>Es la versión para enteros primitivos de {@link IndiceEytzinger}: los
+ * elementos se guardan en el orden de Eytzinger, y el descenso compara
+ * directamente los enteros, sin comparadores ni envolturas.</p>
+ *
+ * <p>Las búsquedas regresan el índice del elemento en el arreglo ordenado
+ * original, igual que {@link Arreglos#busquedaBinaria(int[],int)}; si hay
+ * elementos repetidos, se regresa el primero.</p>
+ */
+public class IndiceEytzingerEnteros {
+
+    /**
+     * Número máximo de elementos en un índice. Con él, el descenso nunca pasa
+     * de la posición 2<em>n</em>+1, que todavía cabe en un <code>int</code>.
+     */
+    public static final int MAXIMO_ELEMENTOS = (1 << 30) - 1;
+
+    /* Los elementos en orden de Eytzinger, cada uno en los 32 bits altos
+     * junto con su índice en el arreglo original en los bajos, para que el
+     * índice esté en la misma línea de caché; la posición 0 no se usa. */
+    private long[] elementos;
+    /* El número de elementos. */
+    private int n;
+
+    /**
+     * Construye un índice a partir de un arreglo ordenado. El arreglo no se
+     * modifica, y cambios posteriores en él no se reflejan en el índice.
+     * @param ordenado un arreglo ordenado.
+     * @throws IllegalArgumentException si el arreglo tiene más de {@link
+     *         #MAXIMO_ELEMENTOS} elementos.
+     */
+    public IndiceEytzingerEnteros(int[] ordenado) {
+        if (ordenado.length > MAXIMO_ELEMENTOS)
+            throw new IllegalArgumentException("Demasiados elementos: " +
+                                               ordenado.length);
+        n = ordenado.length;
+        elementos = new long[n + 1];
+        construye(ordenado, 0, 1);
+    }
+
+    /* Llena el subárbol con raíz en k con los elementos del arreglo a partir
+     * de i, en orden; regresa el siguiente índice sin usar. */
+    private int construye(int[] ordenado, int i, int k) {
+        if (k <= n) {
+            i = construye(ordenado, i, 2 * k);
+            elementos[k] = ((long)ordenado[i] << 32) | i;
+            i++;
+            i = construye(ordenado, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    /**
+     * Regresa el número de elementos en el índice.
+     * @return el número de elementos en el índice.
+     */
+    public int getElementos() {
+        return n;
+    }
+
+    /**
+     * Busca un entero en el índice.
+     * @param elemento el entero a buscar.
+     * @return el índice del elemento en el arreglo original, o -1 si no se
+     *         encuentra.
+     */
+    public int busca(int elemento) {
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + ((int)(elementos[k] >> 32) < elemento ? 1 : 0);
+        }
+        /* Quitamos los pasos a la derecha del final del descenso; lo que
+         * queda es el primer elemento mayor o igual, o 0 si no hay. */
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        if (k == 0 || (int)(elementos[k] >> 32) != elemento)
+            return -1;
+        return (int)elementos[k];
+    }
+}
@@ -3,6 +3,8 @@ package mx.unam.ciencias.edd;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * <p>Clase genérica para listas doblemente ligadas.</p>
@@ -17,6 +19,10 @@ import java.util.NoSuchElementException;
  */
 public class Lista<T> implements Coleccion<T> {
 
+    /* Tamaño mínimo de los segmentos que MergeSort paralelo ordena en una
+     * misma tarea. */
+    private static final int UMBRAL_PARALELO = 1 << 13;
+
     /* Clase interna privada para nodos. */
     private class Nodo {
         /* El elemento del nodo. */
@@ -106,12 +112,55 @@ public class Lista<T> implements Coleccion<T> {
         }
     }
 
+    /* Tarea para MergeSort paralelo: ordena las cadenas de nodos en
+     * segmentos[ini, fin) y las mezcla en una sola, cuya cabeza deja en
+     * segmentos[ini]. */
+    private class MergeSortParalelo extends RecursiveAction {
+
+        /* Versión para serialización; las tareas no se serializan. */
+        private static final long serialVersionUID = 1L;
+
+        /* Las cabezas de los segmentos. */
+        private Nodo[] segmentos;
+        /* El comparador. */
+        private Comparator<T> c;
+        /* El primer segmento (inclusivo). */
+        private int ini;
+        /* El último segmento (exclusivo). */
+        private int fin;
+
+        /* Construye la tarea para un intervalo de segmentos. */
+        private MergeSortParalelo(Nodo[] segmentos, Comparator<T> c,
+                                  int ini, int fin) {
+            this.segmentos = segmentos;
+            this.c = c;
+            this.ini = ini;
+            this.fin = fin;
+        }
+
+        /* Ordena las mitades en paralelo y luego las mezcla. */
+        @Override protected void compute() {
+            if (fin - ini == 1) {
+                segmentos[ini] = ordenaCadena(segmentos[ini], c);
+                return;
+            }
+            int m = (ini + fin) >>> 1;
+            invokeAll(new MergeSortParalelo(segmentos, c, ini, m),
+                      new MergeSortParalelo(segmentos, c, m, fin));
+            segmentos[ini] = mezcla(segmentos[ini], segmentos[m], c);
+        }
+    }
+
     /* Primer elemento de la lista. */
     private Nodo cabeza;
     /* Último elemento de la lista. */
     private Nodo rabo;
     /* Número de elementos en la lista. */
     private int longitud;
+    /* El último nodo al que se llegó por índice, o null. */
+    private Nodo dedo;
+    /* El índice del dedo. */
+    private int indiceDedo;
 
     /**
      * Regresa la longitud de la lista. El método es idéntico a {@link
@@ -222,6 +271,7 @@ public class Lista<T> implements Coleccion<T> {
         cabeza = a;
 
         longitud++;
+        indiceDedo++;
     }
 
     /**
@@ -255,18 +305,15 @@ public class Lista<T> implements Coleccion<T> {
         }
 
         Nodo n = new Nodo(elemento);
-        Nodo aux = cabeza;
+        Nodo aux = nodo(i);
 
-        for (int x = 0; x < i - 1; x++)
-            aux = aux.siguiente;
-        
-        n.siguiente = aux.siguiente;
-        aux.siguiente.anterior = n;
-        n.anterior = aux;
-        aux.siguiente = n;
+        n.anterior = aux.anterior;
+        aux.anterior.siguiente = n;
+        n.siguiente = aux;
+        aux.anterior = n;
 
         longitud++;
-
+        dedo = n;
     }
 
     /**
@@ -277,6 +324,7 @@ public class Lista<T> implements Coleccion<T> {
     @Override public void elimina(T elemento) {
         // Aquí va su código.
         Nodo n = cabeza;
+        int k = 0;
 
         while (n != null) {
             if (n.elemento.equals(elemento)) {
@@ -292,12 +340,17 @@ public class Lista<T> implements Coleccion<T> {
                     n.anterior.siguiente = n.siguiente;
                     n.siguiente.anterior = n.anterior;
                     longitud--;
+                    if (dedo == n)
+                        dedo = null;
+                    else if (indiceDedo > k)
+                        indiceDedo--;
                 }
 
                 return;
             }
 
             n = n.siguiente;
+            k++;
         }
     }
 
@@ -313,6 +366,9 @@ public class Lista<T> implements Coleccion<T> {
 
         T r = cabeza.elemento;
 
+        if (dedo == cabeza)
+            dedo = null;
+        indiceDedo--;
         cabeza = cabeza.siguiente;
 
         if (cabeza != null) {
@@ -341,6 +397,8 @@ public class Lista<T> implements Coleccion<T> {
 
         T r = rabo.elemento;
 
+        if (dedo == rabo)
+            dedo = null;
         rabo = rabo.anterior;
 
         if (rabo != null) {
@@ -423,6 +481,7 @@ public class Lista<T> implements Coleccion<T> {
         cabeza = null;
         rabo = null;
         longitud = 0;
+        dedo = null;
     }
 
     /**
@@ -452,7 +511,10 @@ public class Lista<T> implements Coleccion<T> {
     }
 
     /**
-     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     * Regresa el <em>i</em>-ésimo elemento de la lista. El recorrido empieza
+     * en el extremo más cercano, o en el último nodo al que se llegó por
+     * índice si está más cerca, así que recorrer la lista con índices
+     * consecutivos toma tiempo O(<em>n</em>) en total.
      * @param i el índice del elemento que queremos.
      * @return el <em>i</em>-ésimo elemento de la lista.
      * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
@@ -463,13 +525,30 @@ public class Lista<T> implements Coleccion<T> {
         if (i < 0 || i >= longitud)
             throw new ExcepcionIndiceInvalido();
 
-        Nodo n = cabeza;
+        return nodo(i).elemento;
+    }
 
-        for (int j = 0; j < i; j++) {
-            n = n.siguiente;
+    /* Regresa el nodo con índice i, que tiene que ser válido. Camina desde la
+     * cabeza, el rabo o el dedo, el que esté más cerca, y deja el dedo en el
+     * nodo, para que los accesos cercanos tomen O(|i - j|). */
+    private Nodo nodo(int i) {
+        Nodo n = cabeza;
+        int j = 0;
+        if (longitud - 1 - i < i) {
+            n = rabo;
+            j = longitud - 1;
         }
-
-        return n.elemento;
+        if (dedo != null && Math.abs(i - indiceDedo) < Math.abs(i - j)) {
+            n = dedo;
+            j = indiceDedo;
+        }
+        for (; j < i; j++)
+            n = n.siguiente;
+        for (; j > i; j--)
+            n = n.anterior;
+        dedo = n;
+        indiceDedo = i;
+        return n;
     }
 
     /**
@@ -488,6 +567,8 @@ public class Lista<T> implements Coleccion<T> {
 
         while (n != null) {
             if(n.elemento.equals(elemento)) {
+                dedo = n;
+                indiceDedo = count;
                 return count;
             }
 
@@ -576,54 +657,274 @@ public class Lista<T> implements Coleccion<T> {
      */
     public Lista<T> mergeSort(Comparator<T> comparador) {
         // Aquí va su código.
-        if (longitud == 1) {
-            return this;
-        }
+        Lista<T> r = copia();
+        r.ordena(comparador);
+        return r;
+    }
 
-        Lista <T> a = new Lista<T>();
-        Lista <T> b = new Lista<T>(); 
+    /**
+     * Regresa una copia de la lista, pero ordenada usando MergeSort en
+     * paralelo, en el {@link ForkJoinPool#commonPool}.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @return una copia de la lista, pero ordenada.
+     * @see #mergeSortParalelo(Comparator, ForkJoinPool)
+     */
+    public Lista<T> mergeSortParalelo(Comparator<T> comparador) {
+        return mergeSortParalelo(comparador, ForkJoinPool.commonPool());
+    }
 
-        for (int i = 0; i < longitud/2; i++)
-            a.agregaFinal(this.get(i));
+    /**
+     * Regresa una copia de la lista, pero ordenada usando MergeSort en
+     * paralelo. La copia se parte en O(<em>n</em>) en segmentos de al menos
+     * {@value #UMBRAL_PARALELO} elementos, unos cuantos por hilo del
+     * <em>pool</em>; cada segmento se ordena en su propia tarea religando sus
+     * nodos, y los segmentos se mezclan por parejas, en paralelo entre
+     * parejas distintas. La última mezcla es secuencial, porque una lista no
+     * se puede partir por búsqueda binaria. El ordenamiento es estable.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @param pool el <em>pool</em> donde se ejecutan las tareas.
+     * @return una copia de la lista, pero ordenada.
+     */
+    public Lista<T> mergeSortParalelo(Comparator<T> comparador,
+                                      ForkJoinPool pool) {
+        Lista<T> r = copia();
+        r.ordenaParalelo(comparador, pool);
+        return r;
+    }
 
-        for (int i = longitud/2; i < longitud; i++)
-            b.agregaFinal(this.get(i));
+    /**
+     * Regresa una copia de la lista recibida, pero ordenada usando MergeSort
+     * en paralelo. La lista recibida tiene que contener nada más elementos que
+     * implementan la interfaz {@link Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @return una copia de la lista recibida, pero ordenada.
+     * @see #mergeSortParalelo(Comparator, ForkJoinPool)
+     */
+    public static <T extends Comparable<T>>
+    Lista<T> mergeSortParalelo(Lista<T> lista) {
+        return lista.mergeSortParalelo((a, b) -> a.compareTo(b));
+    }
 
-        a = a.mergeSort(comparador);
-        b = b.mergeSort(comparador);
+    /* Ordena la lista en su lugar, partiéndola en segmentos que se ordenan y
+     * mezclan en el pool. */
+    private void ordenaParalelo(Comparator<T> comparador, ForkJoinPool pool) {
+        if (longitud < 2)
+            return;
+        int tareas = 4 * pool.getParallelism();
+        int tamano = Math.max(UMBRAL_PARALELO,
+                              (longitud + tareas - 1) / tareas);
+        @SuppressWarnings("unchecked") Nodo[] segmentos =
+            (Nodo[])new Lista<?>.Nodo[(longitud + tamano - 1) / tamano];
+        Nodo n = cabeza;
+        for (int i = 0; i < segmentos.length; i++) {
+            segmentos[i] = n;
+            for (int j = 1; j < tamano && n.siguiente != null; j++)
+                n = n.siguiente;
+            Nodo s = n.siguiente;
+            n.siguiente = null;
+            n = s;
+        }
+        pool.invoke(new MergeSortParalelo(segmentos, comparador,
+                                          0, segmentos.length));
+        cabeza = segmentos[0];
+        religaAnteriores();
+    }
 
-        return auxMerge(a, b, comparador);
+    /**
+     * Ordena la lista en su lugar, usando MergeSort de abajo hacia arriba: en
+     * cada pasada se mezclan pares de sublistas ordenadas de tamaño
+     * <em>k</em>, con <em>k</em> = 1, 2, 4, ..., religando los nodos
+     * existentes. No crea ningún objeto, toma tiempo O(<em>n</em> log
+     * <em>n</em>) y el ordenamiento es estable.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordena(Comparator<T> comparador) {
+        if (longitud < 2)
+            return;
+        for (int k = 1; ; k *= 2) {
+            Nodo p = cabeza;
+            Nodo ultimo = null;
+            int mezclas = 0;
+            cabeza = null;
+            while (p != null) {
+                mezclas++;
+                Nodo q = p;
+                int lp = 0;
+                while (lp < k && q != null) {
+                    q = q.siguiente;
+                    lp++;
+                }
+                int lq = k;
+                while (lp > 0 || (lq > 0 && q != null)) {
+                    Nodo n;
+                    if (lp > 0 && (lq == 0 || q == null ||
+                                   comparador.compare(q.elemento,
+                                                      p.elemento) >= 0)) {
+                        n = p;
+                        p = p.siguiente;
+                        lp--;
+                    } else {
+                        n = q;
+                        q = q.siguiente;
+                        lq--;
+                    }
+                    if (ultimo == null)
+                        cabeza = n;
+                    else
+                        ultimo.siguiente = n;
+                    ultimo = n;
+                }
+                p = q;
+            }
+            ultimo.siguiente = null;
+            if (mezclas == 1)
+                break;
+        }
+        religaAnteriores();
     }
 
-    private Lista<T> auxMerge(Lista<T> izquierda, Lista<T> derecha, Comparator<T> c) { //Método para juntar dos listas
-        Lista<T> aux = new Lista<T>();
+    /**
+     * Ordena la lista recibida en su lugar. La lista recibida tiene que
+     * contener nada más elementos que implementan la interfaz {@link
+     * Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @see #ordena(Comparator)
+     */
+    public static <T extends Comparable<T>> void ordena(Lista<T> lista) {
+        lista.ordena((a, b) -> a.compareTo(b));
+    }
 
-        Nodo nA = izquierda.cabeza;
-        Nodo nB = derecha.cabeza;
+    /**
+     * Ordena la lista en su lugar, usando MergeSort natural: una pasada parte
+     * la lista en sus corridas crecientes y estrictamente decrecientes (estas
+     * últimas se invierten), y luego se mezclan corridas adyacentes por
+     * parejas hasta que queda una sola. Si la lista tiene <em>r</em>
+     * corridas, toma tiempo O(<em>n</em> log <em>r</em>); si ya está
+     * ordenada, O(<em>n</em>) con <em>n</em>-1 comparaciones. No crea ningún
+     * objeto y el ordenamiento es estable.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordenaNatural(Comparator<T> comparador) {
+        if (longitud < 2)
+            return;
+        cabeza = ordenaCadena(cabeza, comparador);
+        religaAnteriores();
+    }
 
-        while (nA != null && nB != null) {
-            if (c.compare(nB.elemento, nA.elemento) < 0) {
-                aux.agregaFinal(nB.elemento);
-                nB = nB.siguiente;
+    /* Ordena con MergeSort natural la cadena de nodos que empieza en n y
+     * termina en null, religando nada más los siguientes, y regresa la nueva
+     * cabeza. */
+    private Nodo ordenaCadena(Nodo n, Comparator<T> comparador) {
+        /* Cada corrida termina en null, y el anterior de su cabeza apunta a
+         * la cabeza de la siguiente corrida. */
+        Nodo corridas = null;
+        Nodo ultima = null;
+        while (n != null) {
+            Nodo c = n;
+            Nodo s = n.siguiente;
+            if (s != null && comparador.compare(s.elemento, n.elemento) < 0) {
+                n.siguiente = null;
+                do {
+                    Nodo t = s.siguiente;
+                    s.siguiente = c;
+                    c = s;
+                    s = t;
+                } while (s != null &&
+                         comparador.compare(s.elemento, c.elemento) < 0);
+            } else {
+                while (s != null) {
+                    n = s;
+                    s = s.siguiente;
+                    if (s != null &&
+                        comparador.compare(s.elemento, n.elemento) < 0)
+                        break;
+                }
+                n.siguiente = null;
             }
-
-            else {
-                aux.agregaFinal(nA.elemento);
-                nA = nA.siguiente;
+            c.anterior = null;
+            if (ultima == null)
+                corridas = c;
+            else
+                ultima.anterior = c;
+            ultima = c;
+            n = s;
+        }
+        while (corridas.anterior != null) {
+            Nodo a = corridas;
+            corridas = ultima = null;
+            while (a != null) {
+                Nodo b = a.anterior;
+                Nodo s = null;
+                if (b != null) {
+                    s = b.anterior;
+                    a = mezcla(a, b, comparador);
+                }
+                a.anterior = null;
+                if (ultima == null)
+                    corridas = a;
+                else
+                    ultima.anterior = a;
+                ultima = a;
+                a = s;
             }
         }
+        return corridas;
+    }
 
-        while (nA != null) {
-            aux.agregaFinal(nA.elemento);
-            nA = nA.siguiente;
+    /**
+     * Ordena la lista recibida en su lugar, usando MergeSort natural. La
+     * lista recibida tiene que contener nada más elementos que implementan la
+     * interfaz {@link Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @see #ordenaNatural(Comparator)
+     */
+    public static <T extends Comparable<T>>
+    void ordenaNatural(Lista<T> lista) {
+        lista.ordenaNatural((a, b) -> a.compareTo(b));
+    }
+
+    /* Mezcla dos corridas que terminan en null, por los siguientes, y regresa
+     * la cabeza del resultado. Ante empates gana la primera corrida. */
+    private Nodo mezcla(Nodo a, Nodo b, Comparator<T> comparador) {
+        Nodo r, u;
+        if (comparador.compare(b.elemento, a.elemento) >= 0) {
+            r = u = a;
+            a = a.siguiente;
+        } else {
+            r = u = b;
+            b = b.siguiente;
+        }
+        while (a != null && b != null) {
+            if (comparador.compare(b.elemento, a.elemento) >= 0) {
+                u.siguiente = a;
+                a = a.siguiente;
+            } else {
+                u.siguiente = b;
+                b = b.siguiente;
+            }
+            u = u.siguiente;
         }
+        u.siguiente = (a != null) ? a : b;
+        return r;
+    }
 
-        while (nB != null) {
-            aux.agregaFinal(nB.elemento);
-            nB = nB.siguiente;
+    /* Recorre la lista por los siguientes, arreglando los anteriores y el
+     * rabo; como los nodos cambiaron de lugar, descarta el dedo. */
+    private void religaAnteriores() {
+        dedo = null;
+        Nodo a = null;
+        for (Nodo n = cabeza; n != null; n = n.siguiente) {
+            n.anterior = a;
+            a = n;
         }
-        
-        return aux;
+        rabo = a;
     }
 
     /**
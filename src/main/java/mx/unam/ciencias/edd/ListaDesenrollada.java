@@ -0,0 +1,714 @@
+package mx.unam.ciencias.edd;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>Clase genérica para listas desenrolladas.</p>
+ *
+ * <p>Una lista desenrollada es una lista doblemente ligada de bloques, y cada
+ * bloque guarda en un arreglo hasta {@value #CAPACIDAD} elementos
+ * consecutivos de la lista. Ofrece las mismas operaciones que {@link Lista},
+ * pero en lugar de un nodo con dos referencias por elemento usa un bloque
+ * por cada 32 a 64 elementos, así que ocupa mucho menos memoria y recorrerla
+ * lee arreglos contiguos en lugar de saltar de nodo en nodo.</p>
+ *
+ * <p>Cuando se inserta en un bloque lleno, el bloque se parte a la mitad;
+ * cuando al eliminar un bloque queda con menos de la mitad de su capacidad,
+ * se junta con un vecino o se reparten los elementos entre los dos. Agregar
+ * al final llena los bloques por completo. Insertar o eliminar en medio de un
+ * bloque recorre a lo más {@value #CAPACIDAD} elementos, y llegar a un
+ * índice camina por bloques desde el extremo más cercano, o desde el último
+ * bloque al que se llegó por índice.</p>
+ *
+ * <p>Las listas desenrolladas no aceptan a <code>null</code> como
+ * elemento.</p>
+ *
+ * @param <T> El tipo de los elementos de la lista.
+ */
+public class ListaDesenrollada<T> implements Coleccion<T> {
+
+    /** Número máximo de elementos en un bloque. */
+    public static final int CAPACIDAD = 64;
+
+    /* Tamaño de intervalo debajo del cual MergeSort paralelo es
+     * secuencial. */
+    private static final int UMBRAL_PARALELO = 1 << 13;
+
+    /* Clase interna privada para bloques. */
+    private class Bloque {
+        /* Los elementos del bloque; sólo los primeros n son válidos. */
+        private T[] elementos;
+        /* El número de elementos en el bloque. */
+        private int n;
+        /* El bloque anterior. */
+        private Bloque anterior;
+        /* El bloque siguiente. */
+        private Bloque siguiente;
+
+        /* Construye un bloque vacío. */
+        @SuppressWarnings("unchecked") private Bloque() {
+            elementos = (T[])new Object[CAPACIDAD];
+        }
+    }
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador implements IteradorLista<T> {
+        /* El bloque del elemento siguiente, o null si no hay. */
+        private Bloque bloque;
+        /* El índice del elemento siguiente en su bloque. */
+        private int indice;
+
+        /* Construye un nuevo iterador. */
+        private Iterador() {
+            start();
+        }
+
+        /* Nos dice si hay un elemento siguiente. */
+        @Override public boolean hasNext() {
+            return bloque != null;
+        }
+
+        /* Nos da el elemento siguiente. */
+        @Override public T next() {
+            if (bloque == null)
+                throw new NoSuchElementException();
+            T r = bloque.elementos[indice++];
+            if (indice == bloque.n) {
+                bloque = bloque.siguiente;
+                indice = 0;
+            }
+            return r;
+        }
+
+        /* Nos dice si hay un elemento anterior. */
+        @Override public boolean hasPrevious() {
+            if (bloque == null)
+                return rabo != null;
+            return indice > 0 || bloque.anterior != null;
+        }
+
+        /* Nos da el elemento anterior. */
+        @Override public T previous() {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            if (bloque == null) {
+                bloque = rabo;
+                indice = rabo.n;
+            } else if (indice == 0) {
+                bloque = bloque.anterior;
+                indice = bloque.n;
+            }
+            return bloque.elementos[--indice];
+        }
+
+        /* Mueve el iterador al inicio de la lista. */
+        @Override public void start() {
+            bloque = cabeza;
+            indice = 0;
+        }
+
+        /* Mueve el iterador al final de la lista. */
+        @Override public void end() {
+            bloque = null;
+            indice = 0;
+        }
+    }
+
+    /* Primer bloque de la lista. */
+    private Bloque cabeza;
+    /* Último bloque de la lista. */
+    private Bloque rabo;
+    /* Número de elementos en la lista. */
+    private int longitud;
+    /* El último bloque al que se llegó por índice, o null. */
+    private Bloque dedo;
+    /* El índice del primer elemento del dedo. */
+    private int inicioDedo;
+
+    /**
+     * Regresa la longitud de la lista. El método es idéntico a {@link
+     * #getElementos}.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+        return longitud;
+    }
+
+    /**
+     * Regresa el número elementos en la lista. El método es idéntico a {@link
+     * #getLongitud}.
+     * @return el número elementos en la lista.
+     */
+    @Override public int getElementos() {
+        return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    @Override public boolean esVacia() {
+        return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento a la lista. Si la lista no tiene elementos, el
+     * elemento a agregar será el primero y último. El método es idéntico a
+     * {@link #agregaFinal}.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @Override public void agrega(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        if (rabo == null || rabo.n == CAPACIDAD)
+            nuevoBloque(rabo);
+        rabo.elementos[rabo.n++] = elemento;
+        longitud++;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista. Si la lista no tiene elementos,
+     * el elemento a agregar será el primero y último.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaFinal(T elemento) {
+        agrega(elemento);
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista. Si la lista no tiene elementos,
+     * el elemento a agregar será el primero y último.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaInicio(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        if (cabeza == null || cabeza.n == CAPACIDAD)
+            nuevoBloque(null);
+        insertaEn(cabeza, 0, elemento);
+    }
+
+    /**
+     * Inserta un elemento en un índice explícito.
+     *
+     * Si el índice es menor o igual que cero, el elemento se agrega al inicio
+     * de la lista. Si el índice es mayor o igual que el número de elementos en
+     * la lista, el elemento se agrega al final de la misma. En otro caso,
+     * después de mandar llamar el método, el elemento tendrá el índice que se
+     * especifica en la lista.
+     * @param i el índice dónde insertar el elemento. Si es menor que 0 el
+     *          elemento se agrega al inicio de la lista, y si es mayor o igual
+     *          que el número de elementos en la lista se agrega al final.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void inserta(int i, T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        if (i <= 0) {
+            agregaInicio(elemento);
+            return;
+        }
+        if (i >= longitud) {
+            agregaFinal(elemento);
+            return;
+        }
+        Bloque b = bloque(i);
+        int j = i - inicioDedo;
+        /* Al inicio de un bloque, se prefiere el final del anterior si tiene
+         * lugar, para no partir el bloque. */
+        if (j == 0 && b.anterior.n < CAPACIDAD) {
+            b = b.anterior;
+            j = b.n;
+        }
+        insertaEn(b, j, elemento);
+    }
+
+    /**
+     * Elimina un elemento de la lista. Si el elemento no está contenido en la
+     * lista, el método no la modifica.
+     * @param elemento el elemento a eliminar.
+     */
+    @Override public void elimina(T elemento) {
+        for (Bloque b = cabeza; b != null; b = b.siguiente)
+            for (int j = 0; j < b.n; j++)
+                if (b.elementos[j].equals(elemento)) {
+                    eliminaEn(b, j);
+                    return;
+                }
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaPrimero() {
+        if (longitud == 0)
+            throw new NoSuchElementException();
+        return eliminaEn(cabeza, 0);
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaUltimo() {
+        if (longitud == 0)
+            throw new NoSuchElementException();
+        return eliminaEn(rabo, rabo.n - 1);
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <code>true</code> si <code>elemento</code> está en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean contiene(T elemento) {
+        return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     * @return una nueva lista que es la reversa la que manda llamar el método.
+     */
+    public ListaDesenrollada<T> reversa() {
+        ListaDesenrollada<T> r = new ListaDesenrollada<T>();
+        for (Bloque b = rabo; b != null; b = b.anterior)
+            for (int j = b.n - 1; j >= 0; j--)
+                r.agrega(b.elementos[j]);
+        return r;
+    }
+
+    /**
+     * Regresa una copia de la lista. La copia tiene los mismos elementos que la
+     * lista que manda llamar el método, en el mismo orden.
+     * @return una copia de la lista.
+     */
+    public ListaDesenrollada<T> copia() {
+        ListaDesenrollada<T> r = new ListaDesenrollada<T>();
+        for (Bloque b = cabeza; b != null; b = b.siguiente) {
+            Bloque c = r.nuevoBloque(r.rabo);
+            System.arraycopy(b.elementos, 0, c.elementos, 0, b.n);
+            c.n = b.n;
+        }
+        r.longitud = longitud;
+        return r;
+    }
+
+    /**
+     * Limpia la lista de elementos, dejándola vacía.
+     */
+    @Override public void limpia() {
+        cabeza = rabo = dedo = null;
+        longitud = 0;
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getPrimero() {
+        if (longitud == 0)
+            throw new NoSuchElementException();
+        return cabeza.elementos[0];
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getUltimo() {
+        if (longitud == 0)
+            throw new NoSuchElementException();
+        return rabo.elementos[rabo.n - 1];
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista. El recorrido es por
+     * bloques, y empieza en el extremo más cercano o en el último bloque al
+     * que se llegó por índice si está más cerca.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    public T get(int i) {
+        if (i < 0 || i >= longitud)
+            throw new ExcepcionIndiceInvalido();
+        return bloque(i).elementos[i - inicioDedo];
+    }
+
+    /**
+     * Regresa el índice del elemento recibido en la lista.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si el elemento
+     *         no está contenido en la lista.
+     */
+    public int indiceDe(T elemento) {
+        int inicio = 0;
+        for (Bloque b = cabeza; b != null; b = b.siguiente) {
+            for (int j = 0; j < b.n; j++)
+                if (b.elementos[j].equals(elemento))
+                    return inicio + j;
+            inicio += b.n;
+        }
+        return -1;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+        StringBuilder r = new StringBuilder("[");
+        for (Bloque b = cabeza; b != null; b = b.siguiente)
+            for (int j = 0; j < b.n; j++) {
+                if (b != cabeza || j > 0)
+                    r.append(", ");
+                r.append(b.elementos[j]);
+            }
+        return r.append("]").toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la lista es igual al objeto recibido;
+     *         <code>false</code> en otro caso.
+     */
+    @Override public boolean equals(Object objeto) {
+        if (objeto == null || getClass() != objeto.getClass())
+            return false;
+        @SuppressWarnings("unchecked") ListaDesenrollada<T> lista =
+            (ListaDesenrollada<T>)objeto;
+        if (longitud != lista.longitud)
+            return false;
+        Iterator<T> it = lista.iterator();
+        for (T e : this)
+            if (!e.equals(it.next()))
+                return false;
+        return true;
+    }
+
+    /**
+     * Regresa un código de dispersión para la lista, congruente con {@link
+     * #equals}.
+     * @return un código de dispersión para la lista.
+     */
+    @Override public int hashCode() {
+        int h = 1;
+        for (T e : this)
+            h = 31 * h + e.hashCode();
+        return h;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en una dirección.
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en ambas direcciones.
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    public IteradorLista<T> iteradorLista() {
+        return new Iterador();
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada. Para poder hacer el
+     * ordenamiento, el método necesita una instancia de {@link Comparator} para
+     * poder comparar los elementos de la lista.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @return una copia de la lista, pero ordenada.
+     */
+    public ListaDesenrollada<T> mergeSort(Comparator<T> comparador) {
+        ListaDesenrollada<T> r = copia();
+        r.ordena(comparador);
+        return r;
+    }
+
+    /**
+     * Regresa una copia de la lista recibida, pero ordenada. La lista recibida
+     * tiene que contener nada más elementos que implementan la interfaz {@link
+     * Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @return una copia de la lista recibida, pero ordenada.
+     */
+    public static <T extends Comparable<T>>
+    ListaDesenrollada<T> mergeSort(ListaDesenrollada<T> lista) {
+        return lista.mergeSort((a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada usando MergeSort en
+     * paralelo, en el {@link ForkJoinPool#commonPool}.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @return una copia de la lista, pero ordenada.
+     * @see #mergeSortParalelo(Comparator, ForkJoinPool)
+     */
+    public ListaDesenrollada<T> mergeSortParalelo(Comparator<T> comparador) {
+        return mergeSortParalelo(comparador, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada usando MergeSort en
+     * paralelo. Los elementos se copian a un arreglo, que se ordena con {@link
+     * Arreglos#mergeSortParalelo(Object[],Comparator,int,ForkJoinPool)}, y se
+     * devuelven a los mismos bloques. El ordenamiento es estable.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @param pool el <em>pool</em> donde se ejecutan las tareas.
+     * @return una copia de la lista, pero ordenada.
+     */
+    public ListaDesenrollada<T> mergeSortParalelo(Comparator<T> comparador,
+                                                  ForkJoinPool pool) {
+        ListaDesenrollada<T> r = copia();
+        T[] a = r.arreglo();
+        Arreglos.mergeSortParalelo(a, comparador, UMBRAL_PARALELO, pool);
+        r.devuelve(a);
+        return r;
+    }
+
+    /**
+     * Regresa una copia de la lista recibida, pero ordenada usando MergeSort
+     * en paralelo. La lista recibida tiene que contener nada más elementos que
+     * implementan la interfaz {@link Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @return una copia de la lista recibida, pero ordenada.
+     * @see #mergeSortParalelo(Comparator, ForkJoinPool)
+     */
+    public static <T extends Comparable<T>>
+    ListaDesenrollada<T> mergeSortParalelo(ListaDesenrollada<T> lista) {
+        return lista.mergeSortParalelo((a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Ordena la lista en su lugar. Los elementos se copian a un arreglo, que
+     * se ordena con {@link Arreglos#mergeSort(Object[],Comparator)}, y se
+     * devuelven a los mismos bloques. Como ese MergeSort es natural, una
+     * lista ya ordenada o formada por pocas corridas se ordena en tiempo casi
+     * lineal. El ordenamiento es estable.
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordena(Comparator<T> comparador) {
+        if (longitud < 2)
+            return;
+        T[] a = arreglo();
+        Arreglos.mergeSort(a, comparador);
+        devuelve(a);
+    }
+
+    /**
+     * Ordena la lista recibida en su lugar. La lista recibida tiene que
+     * contener nada más elementos que implementan la interfaz {@link
+     * Comparable}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @see #ordena(Comparator)
+     */
+    public static <T extends Comparable<T>>
+    void ordena(ListaDesenrollada<T> lista) {
+        lista.ordena((a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Busca un elemento en la lista ordenada, usando el comparador recibido. El
+     * método supone que la lista está ordenada usando el mismo comparador.
+     * @param elemento el elemento a buscar.
+     * @param comparador el comparador con el que la lista está ordenada.
+     * @return <code>true</code> si el elemento está contenido en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean busquedaLineal(T elemento, Comparator<T> comparador) {
+        for (Bloque b = cabeza; b != null; b = b.siguiente)
+            for (int j = 0; j < b.n; j++)
+                if (comparador.compare(b.elementos[j], elemento) == 0)
+                    return true;
+        return false;
+    }
+
+    /**
+     * Busca un elemento en una lista ordenada. La lista recibida tiene que
+     * contener nada más elementos que implementan la interfaz {@link
+     * Comparable}, y se da por hecho que está ordenada.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista donde se buscará.
+     * @param elemento el elemento a buscar.
+     * @return <code>true</code> si el elemento está contenido en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    public static <T extends Comparable<T>>
+    boolean busquedaLineal(ListaDesenrollada<T> lista, T elemento) {
+        return lista.busquedaLineal(elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /* Crea un bloque vacío y lo liga después de b, o al inicio si b es
+     * null. */
+    private Bloque nuevoBloque(Bloque b) {
+        Bloque s = new Bloque();
+        s.anterior = b;
+        s.siguiente = (b == null) ? cabeza : b.siguiente;
+        if (s.siguiente == null)
+            rabo = s;
+        else
+            s.siguiente.anterior = s;
+        if (b == null)
+            cabeza = s;
+        else
+            b.siguiente = s;
+        return s;
+    }
+
+    /* Desliga el bloque b de la lista. */
+    private void desliga(Bloque b) {
+        if (b.anterior == null)
+            cabeza = b.siguiente;
+        else
+            b.anterior.siguiente = b.siguiente;
+        if (b.siguiente == null)
+            rabo = b.anterior;
+        else
+            b.siguiente.anterior = b.anterior;
+    }
+
+    /* Regresa el bloque que contiene el índice i, que tiene que ser válido.
+     * Camina desde la cabeza, el rabo o el dedo, el que esté más cerca, y deja
+     * el dedo en el bloque; inicioDedo queda con el índice de su primer
+     * elemento. */
+    private Bloque bloque(int i) {
+        Bloque b = cabeza;
+        int inicio = 0;
+        if (longitud - 1 - i < i) {
+            b = rabo;
+            inicio = longitud - rabo.n;
+        }
+        if (dedo != null && Math.abs(i - inicioDedo) < Math.abs(i - inicio)) {
+            b = dedo;
+            inicio = inicioDedo;
+        }
+        while (i >= inicio + b.n) {
+            inicio += b.n;
+            b = b.siguiente;
+        }
+        while (i < inicio) {
+            b = b.anterior;
+            inicio -= b.n;
+        }
+        dedo = b;
+        inicioDedo = inicio;
+        return b;
+    }
+
+    /* Inserta el elemento en la posición j del bloque b, partiendo antes el
+     * bloque a la mitad si está lleno. */
+    private void insertaEn(Bloque b, int j, T elemento) {
+        if (b.n == CAPACIDAD) {
+            Bloque s = nuevoBloque(b);
+            int m = CAPACIDAD / 2;
+            System.arraycopy(b.elementos, m, s.elementos, 0, CAPACIDAD - m);
+            Arrays.fill(b.elementos, m, CAPACIDAD, null);
+            s.n = CAPACIDAD - m;
+            b.n = m;
+            if (j > m) {
+                b = s;
+                j -= m;
+            }
+        }
+        System.arraycopy(b.elementos, j, b.elementos, j + 1, b.n - j);
+        b.elementos[j] = elemento;
+        b.n++;
+        longitud++;
+        dedo = null;
+    }
+
+    /* Elimina y regresa el elemento en la posición j del bloque b. Si el
+     * bloque queda vacío se desliga, y si queda con menos de la mitad de su
+     * capacidad se equilibra con un vecino. */
+    private T eliminaEn(Bloque b, int j) {
+        T r = b.elementos[j];
+        System.arraycopy(b.elementos, j + 1, b.elementos, j, b.n - j - 1);
+        b.elementos[--b.n] = null;
+        longitud--;
+        dedo = null;
+        if (b.n == 0)
+            desliga(b);
+        else if (b.n < CAPACIDAD / 2 && b.siguiente != null)
+            equilibra(b, b.siguiente);
+        else if (b.n < CAPACIDAD / 2 && b.anterior != null)
+            equilibra(b.anterior, b);
+        return r;
+    }
+
+    /* Junta los bloques consecutivos a y b si sus elementos caben en uno; si
+     * no, los reparte para que los dos queden al menos a la mitad. */
+    private void equilibra(Bloque a, Bloque b) {
+        int total = a.n + b.n;
+        if (total <= CAPACIDAD) {
+            System.arraycopy(b.elementos, 0, a.elementos, a.n, b.n);
+            a.n = total;
+            desliga(b);
+            return;
+        }
+        int m = total / 2;
+        if (a.n < m) {
+            int d = m - a.n;
+            System.arraycopy(b.elementos, 0, a.elementos, a.n, d);
+            System.arraycopy(b.elementos, d, b.elementos, 0, b.n - d);
+            Arrays.fill(b.elementos, b.n - d, b.n, null);
+        } else {
+            int d = a.n - m;
+            System.arraycopy(b.elementos, 0, b.elementos, d, b.n);
+            System.arraycopy(a.elementos, m, b.elementos, 0, d);
+            Arrays.fill(a.elementos, m, a.n, null);
+        }
+        a.n = m;
+        b.n = total - m;
+    }
+
+    /* Regresa un arreglo con los elementos de la lista, en orden. */
+    private T[] arreglo() {
+        @SuppressWarnings("unchecked") T[] a = (T[])new Object[longitud];
+        int k = 0;
+        for (Bloque b = cabeza; b != null; b = b.siguiente) {
+            System.arraycopy(b.elementos, 0, a, k, b.n);
+            k += b.n;
+        }
+        return a;
+    }
+
+    /* Copia los elementos del arreglo a los bloques, en orden; el arreglo
+     * tiene que tener la longitud de la lista. */
+    private void devuelve(T[] a) {
+        int k = 0;
+        for (Bloque b = cabeza; b != null; b = b.siguiente) {
+            System.arraycopy(a, k, b.elementos, 0, b.n);
+            k += b.n;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package mx.unam.ciencias.edd;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interfaz funcional para extraer la llave de ordenamiento de un registro
+ * binario, sin construir objetos.
+ */
+@FunctionalInterface
+public interface LlaveRegistro {
+
+    /**
+     * Regresa la llave del registro que empieza en la posición absoluta
+     * recibida del buffer. No debe modificar la posición del buffer.
+     * @param buffer el buffer con los registros.
+     * @param posicion la posición absoluta donde empieza el registro.
+     * @return la llave del registro.
+     */
+    public long llave(ByteBuffer buffer, int posicion);
+}
@@ -0,0 +1,379 @@
+package mx.unam.ciencias.edd;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * <p>Clase genérica para ordenamiento externo, de colecciones que no caben en
+ * memoria.</p>
+ *
+ * <p>Los elementos se leen en bloques de a lo más {@link
+ * #getElementosPorCorrida} elementos, cada bloque se ordena en memoria con
+ * {@link Arreglos#mergeSort(Object[],Comparator)}, y se escribe como una
+ * corrida ordenada en un archivo temporal, a través de ventanas mapeadas a
+ * memoria. Al final las corridas se mezclan de <em>k</em> en <em>k</em>,
+ * leyendo de cada una nada más una ventana a la vez, así que la memoria usada
+ * por la mezcla está acotada sin importar el tamaño de los datos. Si hay
+ * demasiadas corridas para abrirlas todas al mismo tiempo, se mezclan primero
+ * por grupos.</p>
+ *
+ * <p>Los elementos se escriben como registros binarios de tamaño fijo con un
+ * {@link CodificadorRegistro}. El ordenamiento es estable.</p>
+ *
+ * <p>Los errores de entrada/salida se reportan con {@link
+ * UncheckedIOException}. Los archivos temporales se cierran y se borran
+ * conforme las corridas se terminan de leer, o al llamar {@link #close}.</p>
+ *
+ * @param <T> El tipo de los elementos a ordenar.
+ */
+public class OrdenamientoExterno<T> implements AutoCloseable {
+
+    /* Registros por ventana mapeada por omisión. */
+    private static final int REGISTROS_POR_VENTANA = 1 << 12;
+    /* Máximo de corridas que se mezclan al mismo tiempo. */
+    private static final int MAXIMO_ENTRADAS = 256;
+
+    /* Clase interna privada para corridas ordenadas en archivos. */
+    private class Corrida {
+        /* El archivo de la corrida. */
+        private Path archivo;
+        /* El número de registros en la corrida. */
+        private long registros;
+
+        /* Construye una corrida. */
+        private Corrida(Path archivo, long registros) {
+            this.archivo = archivo;
+            this.registros = registros;
+        }
+    }
+
+    /* Clase interna privada para leer una corrida una ventana a la vez. */
+    private class Lector {
+        /* La corrida que se lee. */
+        private Corrida corrida;
+        /* El orden de la corrida, para desempatar de forma estable. */
+        private int orden;
+        /* El canal del archivo. */
+        private FileChannel canal;
+        /* La ventana actual. */
+        private MappedByteBuffer ventana;
+        /* Dónde empieza la siguiente ventana en el archivo. */
+        private long posicion;
+        /* Los registros que faltan por leer. */
+        private long restantes;
+        /* El último elemento leído. */
+        private T actual;
+
+        /* Abre la corrida, y la registra como abierta. */
+        private Lector(Corrida corrida, int orden) throws IOException {
+            this.corrida = corrida;
+            this.orden = orden;
+            canal = FileChannel.open(corrida.archivo, StandardOpenOption.READ);
+            abiertos.agrega(this);
+            restantes = corrida.registros;
+        }
+
+        /* Lee el siguiente elemento; si la corrida se terminó, la cierra, la
+         * borra y regresa false. */
+        private boolean avanza() throws IOException {
+            if (restantes == 0) {
+                cierra();
+                borra(corrida.archivo);
+                return false;
+            }
+            if (ventana == null || !ventana.hasRemaining()) {
+                long bytes = Math.min(restantes, registrosPorVentana) * tamano;
+                ventana = canal.map(FileChannel.MapMode.READ_ONLY,
+                                    posicion, bytes);
+                posicion += bytes;
+            }
+            actual = codificador.decodifica(ventana);
+            restantes--;
+            return true;
+        }
+
+        /* Cierra el canal, y deja de registrar la corrida como abierta. */
+        private void cierra() throws IOException {
+            abiertos.elimina(this);
+            canal.close();
+        }
+    }
+
+    /* Clase interna privada para escribir una corrida una ventana a la vez. */
+    private class Escritor implements AutoCloseable {
+        /* El archivo de la corrida. */
+        private Path archivo;
+        /* El canal del archivo. */
+        private FileChannel canal;
+        /* La ventana actual. */
+        private MappedByteBuffer ventana;
+        /* Dónde empieza la siguiente ventana en el archivo. */
+        private long posicion;
+        /* Los registros que faltan por escribir. */
+        private long restantes;
+        /* El número de registros de la corrida. */
+        private long registros;
+
+        /* Crea un archivo temporal para una corrida de n registros. */
+        private Escritor(long n) throws IOException {
+            archivo = directorio == null ?
+                Files.createTempFile("corrida", ".tmp") :
+                Files.createTempFile(directorio, "corrida", ".tmp");
+            archivos.agrega(archivo);
+            canal = FileChannel.open(archivo, StandardOpenOption.READ,
+                                     StandardOpenOption.WRITE);
+            restantes = registros = n;
+        }
+
+        /* Escribe un elemento. */
+        private void escribe(T elemento) throws IOException {
+            if (ventana == null || !ventana.hasRemaining()) {
+                long bytes = Math.min(restantes, registrosPorVentana) * tamano;
+                ventana = canal.map(FileChannel.MapMode.READ_WRITE,
+                                    posicion, bytes);
+                posicion += bytes;
+            }
+            codificador.codifica(elemento, ventana);
+            restantes--;
+        }
+
+        /* Regresa la corrida escrita. */
+        private Corrida corrida() {
+            return new Corrida(archivo, registros);
+        }
+
+        /* Cierra el archivo. */
+        @Override public void close() throws IOException {
+            canal.close();
+        }
+    }
+
+    /* Clase interna privada para iteradores que mezclan corridas. */
+    private class Mezcla implements Iterator<T>, AutoCloseable {
+        /* Los lectores de las corridas, ordenados por su elemento actual. */
+        private PriorityQueue<Lector> lectores;
+
+        /* Abre las corridas y lee el primer elemento de cada una. */
+        private Mezcla(Lista<Corrida> corridas) throws IOException {
+            lectores = new PriorityQueue<Lector>(
+                Math.max(1, corridas.getLongitud()), (a, b) -> {
+                    int r = comparador.compare(a.actual, b.actual);
+                    return r != 0 ? r : Integer.compare(a.orden, b.orden);
+                });
+            int orden = 0;
+            for (Corrida corrida : corridas) {
+                Lector lector = new Lector(corrida, orden++);
+                if (lector.avanza())
+                    lectores.add(lector);
+            }
+        }
+
+        /* Nos dice si hay un elemento siguiente. */
+        @Override public boolean hasNext() {
+            return !lectores.isEmpty();
+        }
+
+        /* Nos da el elemento siguiente. */
+        @Override public T next() {
+            if (lectores.isEmpty())
+                throw new NoSuchElementException();
+            Lector lector = lectores.poll();
+            T r = lector.actual;
+            try {
+                if (lector.avanza())
+                    lectores.add(lector);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+            return r;
+        }
+
+        /* Cierra las corridas que no se terminaron de leer. */
+        @Override public void close() throws IOException {
+            while (!lectores.isEmpty())
+                lectores.poll().cierra();
+        }
+    }
+
+    /* El codificador de los registros. */
+    private CodificadorRegistro<T> codificador;
+    /* El comparador de los elementos. */
+    private Comparator<T> comparador;
+    /* El número de elementos que se ordenan en memoria. */
+    private int elementosPorCorrida;
+    /* El número de registros por ventana mapeada. */
+    private int registrosPorVentana;
+    /* El directorio para los archivos temporales, o null. */
+    private Path directorio;
+    /* El tamaño de los registros. */
+    private long tamano;
+    /* Los archivos temporales que no se han borrado. */
+    private Lista<Path> archivos;
+    /* Los lectores con su canal abierto. */
+    private Lista<Lector> abiertos;
+
+    /**
+     * Construye un ordenamiento externo que usa el directorio temporal del
+     * sistema, y ventanas de 4096 registros.
+     * @param codificador el codificador de los registros.
+     * @param comparador el comparador para ordenar los elementos.
+     * @param elementosPorCorrida el número de elementos que se ordenan en
+     *                            memoria para formar cada corrida.
+     * @throws IllegalArgumentException si el número de elementos por corrida
+     *         es menor que uno.
+     */
+    public OrdenamientoExterno(CodificadorRegistro<T> codificador,
+                               Comparator<T> comparador,
+                               int elementosPorCorrida) {
+        this(codificador, comparador, elementosPorCorrida,
+             REGISTROS_POR_VENTANA, null);
+    }
+
+    /**
+     * Construye un ordenamiento externo.
+     * @param codificador el codificador de los registros.
+     * @param comparador el comparador para ordenar los elementos.
+     * @param elementosPorCorrida el número de elementos que se ordenan en
+     *                            memoria para formar cada corrida.
+     * @param registrosPorVentana el número de registros de cada ventana
+     *                            mapeada a memoria al leer y escribir las
+     *                            corridas.
+     * @param directorio el directorio para los archivos temporales, o
+     *                   <code>null</code> para usar el del sistema.
+     * @throws IllegalArgumentException si el número de elementos por corrida
+     *         o el de registros por ventana es menor que uno.
+     */
+    public OrdenamientoExterno(CodificadorRegistro<T> codificador,
+                               Comparator<T> comparador,
+                               int elementosPorCorrida,
+                               int registrosPorVentana,
+                               Path directorio) {
+        if (elementosPorCorrida < 1 || registrosPorVentana < 1)
+            throw new IllegalArgumentException();
+        this.codificador = codificador;
+        this.comparador = comparador;
+        this.elementosPorCorrida = elementosPorCorrida;
+        this.registrosPorVentana = registrosPorVentana;
+        this.directorio = directorio;
+        tamano = codificador.getTamano();
+        archivos = new Lista<Path>();
+        abiertos = new Lista<Lector>();
+    }
+
+    /**
+     * Regresa el número de elementos que se ordenan en memoria para formar
+     * cada corrida.
+     * @return el número de elementos por corrida.
+     */
+    public int getElementosPorCorrida() {
+        return elementosPorCorrida;
+    }
+
+    /**
+     * Ordena los elementos del iterador recibido. Toda la entrada se consume y
+     * se escribe en corridas antes de regresar; el iterador regresado hace la
+     * mezcla conforme se recorre. Si toda la entrada cabe en una corrida, se
+     * ordena en memoria y no se escribe nada.
+     * @param entrada el iterador con los elementos a ordenar.
+     * @return un iterador con los elementos ordenados.
+     * @throws UncheckedIOException si ocurre un error de entrada/salida.
+     */
+    public Iterator<T> ordena(Iterator<T> entrada) {
+        try {
+            @SuppressWarnings("unchecked") T[] bloque =
+                (T[])new Object[elementosPorCorrida];
+            Lista<Corrida> corridas = new Lista<Corrida>();
+            while (entrada.hasNext()) {
+                int n = 0;
+                while (n < bloque.length && entrada.hasNext())
+                    bloque[n++] = entrada.next();
+                T[] b = n == bloque.length ? bloque : Arrays.copyOf(bloque, n);
+                Arreglos.mergeSort(b, comparador);
+                if (corridas.esVacia() && !entrada.hasNext())
+                    return Arrays.asList(b).iterator();
+                try (Escritor escritor = new Escritor(n)) {
+                    for (T e : b)
+                        escritor.escribe(e);
+                    corridas.agrega(escritor.corrida());
+                }
+            }
+            if (corridas.esVacia())
+                return Collections.emptyIterator();
+            while (corridas.getLongitud() > MAXIMO_ENTRADAS)
+                corridas = mezclaGrupos(corridas);
+            return new Mezcla(corridas);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Ordena los elementos del iterable recibido.
+     * @param entrada el iterable con los elementos a ordenar.
+     * @return un iterador con los elementos ordenados.
+     * @throws UncheckedIOException si ocurre un error de entrada/salida.
+     */
+    public Iterator<T> ordena(Iterable<T> entrada) {
+        return ordena(entrada.iterator());
+    }
+
+    /* Mezcla las corridas en grupos consecutivos de MAXIMO_ENTRADAS, y
+     * regresa las corridas resultantes en el mismo orden. */
+    private Lista<Corrida> mezclaGrupos(Lista<Corrida> corridas)
+        throws IOException {
+        Lista<Corrida> r = new Lista<Corrida>();
+        while (!corridas.esVacia()) {
+            Lista<Corrida> grupo = new Lista<Corrida>();
+            long n = 0;
+            while (!corridas.esVacia() && grupo.getLongitud() < MAXIMO_ENTRADAS) {
+                Corrida c = corridas.eliminaPrimero();
+                n += c.registros;
+                grupo.agrega(c);
+            }
+            if (grupo.getLongitud() == 1) {
+                r.agrega(grupo.getPrimero());
+                continue;
+            }
+            try (Escritor escritor = new Escritor(n);
+                 Mezcla mezcla = new Mezcla(grupo)) {
+                while (mezcla.hasNext())
+                    escritor.escribe(mezcla.next());
+                r.agrega(escritor.corrida());
+            }
+        }
+        return r;
+    }
+
+    /* Borra un archivo temporal. */
+    private void borra(Path archivo) throws IOException {
+        Files.deleteIfExists(archivo);
+        archivos.elimina(archivo);
+    }
+
+    /**
+     * Cierra las corridas abiertas y borra los archivos temporales que queden
+     * de ordenamientos cuyos iteradores no se recorrieron completos.
+     * @throws UncheckedIOException si ocurre un error de entrada/salida.
+     */
+    @Override public void close() {
+        try {
+            while (!abiertos.esVacia())
+                abiertos.eliminaPrimero().canal.close();
+            while (!archivos.esVacia())
+                Files.deleteIfExists(archivos.eliminaPrimero());
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package mx.unam.ciencias.edd;
 
+import java.lang.ref.Reference;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import java.text.NumberFormat;
 
 /**
@@ -8,29 +11,85 @@ import java.text.NumberFormat;
  */
 public class Practica3 {
 
+    /* Tamaño de los bloques para comparar las redes de ordenamiento con
+     * inserción. */
+    private static final int BLOQUE = 32;
+
     /* Imprime el uso del programa y lo termina. */
     private static void uso() {
-        System.err.println("Uso: java -jar practica3.jar N");
+        System.err.println("Uso: java -jar practica3.jar N [H]");
         System.exit(1);
     }
 
+    /* Ordena por inserción el intervalo [ini, fin]. */
+    private static void insercion(int[] a, int ini, int fin) {
+        for (int i = ini + 1; i <= fin; i++) {
+            int e = a[i];
+            int j = i - 1;
+            while (j >= ini && e < a[j]) {
+                a[j+1] = a[j];
+                j--;
+            }
+            a[j+1] = e;
+        }
+    }
+
+    /* Regresa la memoria usada, después de pedir varias recolecciones. */
+    private static long memoriaUsada() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++)
+            System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /* Regresa los bytes que ocupa lo que crea el proveedor. Las dos medidas
+     * se toman en este mismo marco, para que la compilación de main no
+     * libere variables muertas a la mitad. */
+    private static long memoria(Supplier<Object> crea) {
+        long antes = memoriaUsada();
+        Object o = crea.get();
+        long bytes = memoriaUsada() - antes;
+        Reference.reachabilityFence(o);
+        return bytes;
+    }
+
+    /* Cuenta los elementos de la colección recorriéndola, sin leerlos. */
+    private static long cuenta(Iterable<Integer> coleccion) {
+        long c = 0;
+        for (Integer e : coleccion)
+            if (e != null)
+                c++;
+        return c;
+    }
+
+    /* Regresa una lista desenrollada con los elementos de la lista. */
+    private static ListaDesenrollada<Integer> desenrolla(Lista<Integer> l) {
+        ListaDesenrollada<Integer> d = new ListaDesenrollada<Integer>();
+        for (Integer e : l)
+            d.agrega(e);
+        return d;
+    }
+
     public static void main(String[] args) {
-        if (args.length != 1)
+        if (args.length < 1 || args.length > 2)
             uso();
 
         int N = -1;
+        int H = Runtime.getRuntime().availableProcessors();
         try {
             N = Integer.parseInt(args[0]);
+            if (args.length == 2)
+                H = Integer.parseInt(args[1]);
         } catch (NumberFormatException nfe) {
             uso();
         }
 
-        if (N < 1)
+        if (N < 1 || H < 1)
             uso();
 
         Random random = new Random();
         NumberFormat nf = NumberFormat.getIntegerInstance();
-        long tiempoInicial, tiempoTotal;
+        long tiempoInicial, tiempoTotal, tiempoQuickSort;
 
         int[] arreglo = new int[N];
         for (int i = 0; i < N; i++)
@@ -46,10 +105,10 @@ public class Practica3 {
 
         tiempoInicial = System.nanoTime();
         Arreglos.quickSort(qs);
-        tiempoTotal = System.nanoTime() - tiempoInicial;
+        tiempoQuickSort = System.nanoTime() - tiempoInicial;
         System.out.printf("%2.9f segundos en ordenar un arreglo con %s elementos " +
                           "usando QuickSort.\n",
-                          (tiempoTotal/1000000000.0), nf.format(N));
+                          (tiempoQuickSort/1000000000.0), nf.format(N));
 
         int b = qs[random.nextInt(N)];
 
@@ -60,6 +119,167 @@ public class Practica3 {
                           "con %s elementos usando búsqueda binaria.\n",
                           (tiempoTotal/1000000000.0), nf.format(N));
 
+        Estadisticas estadisticas = new Estadisticas();
+        Integer[] qe = new Integer[N];
+        for (int i = 0; i < N; i++)
+            qe[i] = arreglo[i];
+        Arreglos.quickSort(qe, estadisticas);
+        System.out.printf("Estadísticas de QuickSort con %s elementos: %s.\n",
+                          nf.format(N), estadisticas);
+
+        estadisticas.reinicia();
+        for (int i = 0; i < N; i++)
+            qe[i] = arreglo[i];
+        Arreglos.mergeSort(qe, estadisticas);
+        System.out.printf("Estadísticas de MergeSort con %s elementos: %s.\n",
+                          nf.format(N), estadisticas);
+
+        estadisticas.reinicia();
+        Arreglos.busquedaBinaria(qe, b, estadisticas);
+        System.out.printf("Estadísticas de búsqueda binaria con %s " +
+                          "elementos: %s.\n", nf.format(N), estadisticas);
+
+        int[] qp = arreglo.clone();
+        tiempoInicial = System.nanoTime();
+        Arreglos.quickSort(qp);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar un arreglo primitivo con " +
+                          "%s elementos usando QuickSort.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        int[] rb = arreglo.clone();
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i += BLOQUE)
+            Arreglos.quickSort(rb, i, Math.min(i + BLOQUE, N));
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos (%.2f ns por elemento) en ordenar " +
+                          "bloques de %d enteros usando redes de " +
+                          "ordenamiento.\n",
+                          (tiempoTotal/1000000000.0), ((double)tiempoTotal/N),
+                          BLOQUE);
+
+        int[] ri = arreglo.clone();
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i += BLOQUE)
+            insercion(ri, i, Math.min(i + BLOQUE, N) - 1);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos (%.2f ns por elemento) en ordenar " +
+                          "bloques de %d enteros usando inserción.\n",
+                          (tiempoTotal/1000000000.0), ((double)tiempoTotal/N),
+                          BLOQUE);
+
+        int[] rs = arreglo.clone();
+        tiempoInicial = System.nanoTime();
+        Arreglos.radixSort(rs);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar un arreglo primitivo con " +
+                          "%s elementos usando RadixSort.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        tiempoInicial = System.nanoTime();
+        idx = Arreglos.busquedaBinaria(qp, b);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en encontrar un elemento en un arreglo " +
+                          "primitivo con %s elementos usando búsqueda binaria.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            idx = Arreglos.busquedaBinaria(qp, arreglo[i]);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en encontrar %s elementos en un arreglo " +
+                          "primitivo usando búsqueda binaria.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        tiempoInicial = System.nanoTime();
+        IndiceEytzingerEnteros ie = new IndiceEytzingerEnteros(qp);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en crear un índice de Eytzinger " +
+                          "con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            idx = ie.busca(arreglo[i]);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en encontrar %s elementos en un " +
+                          "índice de Eytzinger.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        String[] cs = new String[N];
+        for (int i = 0; i < N; i++)
+            cs[i] = String.format("https://ciencias.unam.mx/edd/%d/%d",
+                                  arreglo[i] & 0xf, arreglo[i] >>> 4);
+        String[] cq = cs.clone();
+        tiempoInicial = System.nanoTime();
+        Arreglos.quickSort(cq);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar %s URLs usando " +
+                          "QuickSort.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        tiempoInicial = System.nanoTime();
+        Arreglos.quickSortCadenas(cs);
+        long tiempoCadenas = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar %s URLs usando " +
+                          "QuickSort de varias llaves (aceleración: %.2fx).\n",
+                          (tiempoCadenas/1000000000.0), nf.format(N),
+                          ((double)tiempoTotal/tiempoCadenas));
+
+        ForkJoinPool pool = new ForkJoinPool(H);
+
+        Integer[] qsp = new Integer[N];
+        for (int i = 0; i < N; i++)
+            qsp[i] = arreglo[i];
+        tiempoInicial = System.nanoTime();
+        Arreglos.quickSortParalelo(qsp, (x, y) -> x.compareTo(y), 1 << 13, pool);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar un arreglo con %s elementos " +
+                          "usando QuickSort paralelo con %d hilos " +
+                          "(aceleración: %.2fx).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), H,
+                          ((double)tiempoQuickSort/tiempoTotal));
+
+        Integer[] msp = new Integer[N];
+        for (int i = 0; i < N; i++)
+            msp[i] = arreglo[i];
+        tiempoInicial = System.nanoTime();
+        Arreglos.mergeSortParalelo(msp, (x, y) -> x.compareTo(y), 1 << 13, pool);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar un arreglo con %s elementos " +
+                          "usando MergeSort paralelo con %d hilos " +
+                          "(aceleración: %.2fx).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), H,
+                          ((double)tiempoQuickSort/tiempoTotal));
+
+        /* Un ordenamiento de calentamiento, para que la primera medición de
+         * la curva de escalamiento no incluya la compilación. */
+        Integer[] ss = new Integer[N];
+        for (int i = 0; i < N; i++)
+            ss[i] = arreglo[i];
+        Arreglos.sampleSort(ss, (x, y) -> x.compareTo(y), pool);
+        pool.shutdown();
+
+        long tiempoSampleSort = 0;
+        for (int h = 1; ; h = Math.min(2 * h, H)) {
+            ForkJoinPool ph = new ForkJoinPool(h);
+            for (int i = 0; i < N; i++)
+                ss[i] = arreglo[i];
+            tiempoInicial = System.nanoTime();
+            Arreglos.sampleSort(ss, (x, y) -> x.compareTo(y), ph);
+            tiempoTotal = System.nanoTime() - tiempoInicial;
+            if (h == 1)
+                tiempoSampleSort = tiempoTotal;
+            System.out.printf("%2.9f segundos en ordenar un arreglo con %s " +
+                              "elementos usando SampleSort con %d hilos " +
+                              "(escalamiento: %.2fx).\n",
+                              (tiempoTotal/1000000000.0), nf.format(N), h,
+                              ((double)tiempoSampleSort/tiempoTotal));
+            ph.shutdown();
+            if (h == H)
+                break;
+        }
+
         Lista<Integer> ms = new Lista<Integer>();
         tiempoInicial = System.nanoTime();
         for (int i = 0; i < N; i++)
@@ -69,12 +289,79 @@ public class Practica3 {
                           (tiempoTotal/1000000000.0), nf.format(N));
 
         tiempoInicial = System.nanoTime();
-        ms = Lista.mergeSort(ms);
-        tiempoTotal = System.nanoTime() - tiempoInicial;
+        Lista<Integer> mo = Lista.mergeSort(ms);
+        long tiempoMergeSort = System.nanoTime() - tiempoInicial;
         System.out.printf("%2.9f segundos en ordenar una lista con %s elementos " +
                           "usando MergeSort.\n",
+                          (tiempoMergeSort/1000000000.0), nf.format(N));
+
+        /* Los segmentos dependen del número de hilos, y los más chicos
+         * caben mejor en caché; la razón contra MergeSort no es sólo
+         * paralelismo, y con menos procesadores que hilos no lo es en
+         * absoluto. */
+        ForkJoinPool pl = new ForkJoinPool(H);
+        tiempoInicial = System.nanoTime();
+        ms.mergeSortParalelo((x, y) -> x.compareTo(y), pl);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar una lista con %s elementos " +
+                          "usando MergeSort por segmentos con %d hilos en %d " +
+                          "procesadores (MergeSort tarda %.2fx; incluye el " +
+                          "efecto de caché de los segmentos).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), H,
+                          Runtime.getRuntime().availableProcessors(),
+                          ((double)tiempoMergeSort/tiempoTotal));
+        pl.shutdown();
+
+        Lista<Integer> lc = new Lista<Integer>();
+        int c = 0;
+        for (Integer e : mo)
+            lc.agregaFinal((c++ % 100 == 0) ? random.nextInt() : e);
+        Lista<Integer> ln = lc.copia();
+        tiempoInicial = System.nanoTime();
+        Lista.ordena(lc);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar una lista casi ordenada " +
+                          "con %s elementos usando MergeSort.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+        tiempoInicial = System.nanoTime();
+        Lista.ordenaNatural(ln);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar una lista casi ordenada " +
+                          "con %s elementos usando MergeSort natural.\n",
                           (tiempoTotal/1000000000.0), nf.format(N));
 
+        /* Recorrido y memoria de una lista contra una lista desenrollada,
+         * con los mismos objetos Integer, así que sólo se mide la
+         * estructura. La lista es la ordenada por MergeSort, cuyos nodos
+         * quedaron ligados en desorden en la memoria; el recorrido se mide
+         * antes de forzar recolecciones, que pueden reacomodar los nodos. */
+        ListaDesenrollada<Integer> ld = desenrolla(mo);
+        long recorridos = 0;
+        tiempoInicial = System.nanoTime();
+        for (int k = 0; k < 10; k++)
+            recorridos += cuenta(mo);
+        long tiempoLista = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en recorrer 10 veces una lista " +
+                          "con %s elementos.\n",
+                          (tiempoLista/1000000000.0), nf.format(N));
+        tiempoInicial = System.nanoTime();
+        for (int k = 0; k < 10; k++)
+            recorridos -= cuenta(ld);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en recorrer 10 veces una lista " +
+                          "desenrollada con %s elementos (%.2fx).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N),
+                          ((double)tiempoLista/tiempoTotal));
+        if (recorridos != 0)
+            throw new IllegalStateException();
+
+        long memoriaLista = memoria(() -> mo.copia());
+        long memoriaDesenrollada = memoria(() -> desenrolla(mo));
+        System.out.printf("%.2f bytes por elemento en una lista y %.2f en " +
+                          "una lista desenrollada, con %s elementos.\n",
+                          ((double)memoriaLista/N),
+                          ((double)memoriaDesenrollada/N), nf.format(N));
+
         ArbolBinarioCompleto<Integer> bc = new ArbolBinarioCompleto<Integer>();
         tiempoInicial = System.nanoTime();
         for (int i = 0; i < N; i++)
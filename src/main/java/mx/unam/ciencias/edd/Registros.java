@@ -0,0 +1,246 @@
+package mx.unam.ciencias.edd;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>Clase para ordenar registros binarios de tamaño fijo directamente dentro
+ * de un {@link ByteBuffer}.</p>
+ *
+ * <p>Los registros ocupan los bytes entre la posición y el límite del buffer,
+ * uno tras otro. Se ordenan en su lugar con QuickSort, intercambiando sus
+ * bytes, así que no se crea ningún objeto por registro; con un buffer directo
+ * los datos nunca pasan por el montón. La posición y el límite del buffer no
+ * cambian.</p>
+ */
+public class Registros {
+
+    /* Tamaño debajo del cual los intervalos se ordenan por inserción. */
+    private static final int UMBRAL_INSERCION = 16;
+
+    /* Clase abstracta privada para comparar e intercambiar registros. */
+    private static abstract class Ordenamiento {
+        /* El buffer con los registros. */
+        protected ByteBuffer buffer;
+        /* La posición del primer registro. */
+        protected int base;
+        /* El tamaño de los registros. */
+        protected int tamano;
+
+        /* Inicializa el ordenamiento. */
+        protected Ordenamiento(ByteBuffer buffer, int tamano) {
+            this.buffer = buffer;
+            this.base = buffer.position();
+            this.tamano = tamano;
+        }
+
+        /* Compara los registros i y j. */
+        protected abstract int compara(int i, int j);
+
+        /* Intercambia los bytes de los registros i y j. */
+        protected void intercambia(int i, int j) {
+            int p = base + i * tamano;
+            int q = base + j * tamano;
+            int k = 0;
+            for (; k + Long.BYTES <= tamano; k += Long.BYTES) {
+                long t = buffer.getLong(p + k);
+                buffer.putLong(p + k, buffer.getLong(q + k));
+                buffer.putLong(q + k, t);
+            }
+            for (; k < tamano; k++) {
+                byte t = buffer.get(p + k);
+                buffer.put(p + k, buffer.get(q + k));
+                buffer.put(q + k, t);
+            }
+        }
+
+        /* QuickSort con mediana de tres sobre los registros [ini, fin], que
+         * recursa sobre la parte más chica y cambia a HeapSort si baja más
+         * de limite niveles. */
+        protected void quickSort(int ini, int fin, int limite) {
+            while (fin - ini >= UMBRAL_INSERCION) {
+                if (limite-- == 0) {
+                    heapSort(ini, fin);
+                    return;
+                }
+                int p = particion(ini, fin);
+                if (p - ini < fin - p) {
+                    quickSort(ini, p - 1, limite);
+                    ini = p + 1;
+                } else {
+                    quickSort(p + 1, fin, limite);
+                    fin = p - 1;
+                }
+            }
+            for (int i = ini + 1; i <= fin; i++)
+                for (int j = i; j > ini && compara(j, j - 1) < 0; j--)
+                    intercambia(j, j - 1);
+        }
+
+        /* Parte el intervalo alrededor de la mediana de tres, que se queda
+         * en ini durante la partición; regresa la posición final del
+         * pivote. */
+        private int particion(int ini, int fin) {
+            int m = ini + (fin - ini) / 2;
+            if (compara(m, ini) < 0)
+                intercambia(m, ini);
+            if (compara(fin, ini) < 0)
+                intercambia(fin, ini);
+            if (compara(fin, m) < 0)
+                intercambia(fin, m);
+            intercambia(ini, m);
+            int i = ini, j = fin + 1;
+            while (true) {
+                while (compara(++i, ini) < 0)
+                    ;
+                while (compara(ini, --j) < 0)
+                    ;
+                if (i >= j)
+                    break;
+                intercambia(i, j);
+            }
+            intercambia(ini, j);
+            return j;
+        }
+
+        /* Ordena los registros [ini, fin] usando HeapSort. */
+        private void heapSort(int ini, int fin) {
+            int n = fin - ini + 1;
+            for (int i = n / 2 - 1; i >= 0; i--)
+                acomodaAbajo(ini, i, n);
+            for (int k = n - 1; k > 0; k--) {
+                intercambia(ini, ini + k);
+                acomodaAbajo(ini, 0, k);
+            }
+        }
+
+        /* Baja el registro i del montículo máximo de n registros que empieza
+         * en el registro ini. */
+        private void acomodaAbajo(int ini, int i, int n) {
+            int h;
+            while ((h = 2 * i + 1) < n) {
+                if (h + 1 < n && compara(ini + h, ini + h + 1) < 0)
+                    h++;
+                if (compara(ini + i, ini + h) >= 0)
+                    break;
+                intercambia(ini + i, ini + h);
+                i = h;
+            }
+        }
+    }
+
+    /* Ordenamiento por una llave de bytes sin signo dentro del registro. */
+    private static class OrdenamientoBytes extends Ordenamiento {
+        /* Vista big-endian del buffer, para comparar de ocho en ocho. */
+        private ByteBuffer vista;
+        /* El desplazamiento de la llave dentro del registro. */
+        private int desplazamiento;
+        /* La longitud de la llave. */
+        private int longitud;
+
+        /* Inicializa el ordenamiento. */
+        private OrdenamientoBytes(ByteBuffer buffer, int tamano,
+                                  int desplazamiento, int longitud) {
+            super(buffer, tamano);
+            vista = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+            this.desplazamiento = desplazamiento;
+            this.longitud = longitud;
+        }
+
+        /* Compara las llaves como cadenas de bytes sin signo. */
+        @Override protected int compara(int i, int j) {
+            int p = base + i * tamano + desplazamiento;
+            int q = base + j * tamano + desplazamiento;
+            int k = 0;
+            for (; k + Long.BYTES <= longitud; k += Long.BYTES) {
+                int r = Long.compareUnsigned(vista.getLong(p + k),
+                                             vista.getLong(q + k));
+                if (r != 0)
+                    return r;
+            }
+            for (; k < longitud; k++) {
+                int r = Integer.compare(vista.get(p + k) & 0xff,
+                                        vista.get(q + k) & 0xff);
+                if (r != 0)
+                    return r;
+            }
+            return 0;
+        }
+    }
+
+    /* Ordenamiento por una llave extraída con una función. */
+    private static class OrdenamientoLlave extends Ordenamiento {
+        /* La función que extrae las llaves. */
+        private LlaveRegistro llave;
+
+        /* Inicializa el ordenamiento. */
+        private OrdenamientoLlave(ByteBuffer buffer, int tamano,
+                                  LlaveRegistro llave) {
+            super(buffer, tamano);
+            this.llave = llave;
+        }
+
+        /* Compara las llaves como enteros largos con signo. */
+        @Override protected int compara(int i, int j) {
+            return Long.compare(llave.llave(buffer, base + i * tamano),
+                                llave.llave(buffer, base + j * tamano));
+        }
+    }
+
+    /* Constructor privado para evitar instanciación. */
+    private Registros() {}
+
+    /**
+     * Ordena los registros del buffer por la llave de <code>longitud</code>
+     * bytes que empieza a <code>desplazamiento</code> bytes del inicio de
+     * cada registro. Las llaves se comparan byte por byte, sin signo, así que
+     * los enteros sin signo en big-endian y las cadenas en ASCII o UTF-8
+     * quedan en su orden natural, sin importar el orden de bytes del buffer.
+     * @param buffer el buffer con los registros.
+     * @param tamano el tamaño en bytes de cada registro.
+     * @param desplazamiento el desplazamiento de la llave en el registro.
+     * @param longitud la longitud en bytes de la llave.
+     * @throws IllegalArgumentException si el tamaño no es positivo, si no
+     *         divide los bytes restantes del buffer, si la llave no cabe en
+     *         el registro, o si el buffer es de sólo lectura.
+     */
+    public static void ordena(ByteBuffer buffer, int tamano,
+                              int desplazamiento, int longitud) {
+        int n = cuenta(buffer, tamano);
+        if (desplazamiento < 0 || longitud < 0 ||
+            desplazamiento > tamano - longitud)
+            throw new IllegalArgumentException("Llave inválida");
+        ordena(new OrdenamientoBytes(buffer, tamano, desplazamiento, longitud),
+               n);
+    }
+
+    /**
+     * Ordena los registros del buffer por la llave que regresa la función
+     * para cada uno. Las llaves se comparan como enteros largos con signo.
+     * @param buffer el buffer con los registros.
+     * @param tamano el tamaño en bytes de cada registro.
+     * @param llave la función que extrae la llave de cada registro.
+     * @throws IllegalArgumentException si el tamaño no es positivo, si no
+     *         divide los bytes restantes del buffer, o si el buffer es de
+     *         sólo lectura.
+     */
+    public static void ordena(ByteBuffer buffer, int tamano,
+                              LlaveRegistro llave) {
+        int n = cuenta(buffer, tamano);
+        ordena(new OrdenamientoLlave(buffer, tamano, llave), n);
+    }
+
+    /* Ordena los n registros con el límite de profundidad de IntroSort. */
+    private static void ordena(Ordenamiento o, int n) {
+        o.quickSort(0, n - 1, 2 * (31 - Integer.numberOfLeadingZeros(n | 1)));
+    }
+
+    /* Revisa el buffer y el tamaño, y regresa el número de registros. */
+    private static int cuenta(ByteBuffer buffer, int tamano) {
+        if (buffer.isReadOnly())
+            throw new IllegalArgumentException("Buffer de sólo lectura");
+        if (tamano <= 0 || buffer.remaining() % tamano != 0)
+            throw new IllegalArgumentException("Tamaño inválido: " + tamano);
+        return buffer.remaining() / tamano;
+    }
+}
@@ -1,7 +1,17 @@
 package mx.unam.ciencias.edd.test;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import mx.unam.ciencias.edd.Arreglos;
+import mx.unam.ciencias.edd.Estadisticas;
+import mx.unam.ciencias.edd.ExcepcionIndiceInvalido;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -22,6 +32,41 @@ public class TestArreglos {
     /* El arreglo. */
     private Integer[] arreglo;
 
+    /* Adversario de McIlroy: un comparador que decide los valores de los
+     * elementos sobre la marcha para volver cuadrático cualquier QuickSort. */
+    private static class Adversario implements Comparator<Integer> {
+
+        /* Los valores asignados; gas es "todavía no decidido". */
+        private int[] valor;
+        /* El valor de los elementos no decididos. */
+        private int gas;
+        /* Número de elementos ya decididos. */
+        private int solidos;
+        /* El candidato a pivote. */
+        private int candidato;
+        /* Número de comparaciones hechas. */
+        private long comparaciones;
+
+        /* Construye un adversario para n elementos. */
+        public Adversario(int n) {
+            valor = new int[n];
+            gas = n;
+            Arrays.fill(valor, gas);
+        }
+
+        /* Compara dos índices, decidiendo sus valores si hace falta. */
+        @Override public int compare(Integer x, Integer y) {
+            comparaciones++;
+            if (valor[x] == gas && valor[y] == gas)
+                valor[x == candidato ? x : y] = solidos++;
+            if (valor[x] == gas)
+                candidato = x;
+            else if (valor[y] == gas)
+                candidato = y;
+            return Integer.compare(valor[x], valor[y]);
+        }
+    }
+
     /* Nos dice si el arreglo recibido está ordenado. */
     private static <T extends Comparable<T>>
                       boolean estaOrdenado(T[] a) {
@@ -67,6 +112,309 @@ public class TestArreglos {
         Assert.assertTrue(estaOrdenado(arreglo));
     }
 
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(Object[],Comparator)} con
+     * entradas ordenadas, en reversa, constantes y en forma de órgano.
+     */
+    @Test public void testQuickSortPatrones() {
+        int n = 50000 + random.nextInt(total);
+        Integer[][] patrones = new Integer[5][n];
+        for (int i = 0; i < n; i++) {
+            patrones[0][i] = i;
+            patrones[1][i] = n - i;
+            patrones[2][i] = total;
+            patrones[3][i] = i < n / 2 ? i : n - i;
+            patrones[4][i] = i % total;
+        }
+        for (Integer[] a : patrones) {
+            Integer[] b = a.clone();
+            Arrays.sort(b);
+            Arreglos.quickSort(a, (x, y) -> x.compareTo(y));
+            Assert.assertArrayEquals(b, a);
+        }
+        for (int k = 0; k < 100; k++) {
+            Integer[] a = new Integer[random.nextInt(500)];
+            for (int i = 0; i < a.length; i++)
+                a[i] = random.nextInt(total);
+            Integer[] b = a.clone();
+            Arrays.sort(b);
+            Arreglos.quickSort(a);
+            Assert.assertArrayEquals(b, a);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#introSort(Comparable[])}.
+     */
+    @Test public void testIntroSort() {
+        arreglo[0] = 1;
+        arreglo[1] = 0;
+        for (int i = 2; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Assert.assertFalse(estaOrdenado(arreglo));
+        Arreglos.introSort(arreglo);
+        Assert.assertTrue(estaOrdenado(arreglo));
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#introSort(Object[],Comparator)} con
+     * la secuencia de Musser que vence a la mediana de tres.
+     */
+    @Test public void testIntroSortMedianaDeTres() {
+        int k = 20000 + 2 * random.nextInt(total);
+        Integer[] a = new Integer[2 * k];
+        for (int i = 1; i <= k; i += 2) {
+            a[i-1] = i;
+            a[i] = k + i;
+        }
+        for (int i = 1; i <= k; i++)
+            a[k + i - 1] = 2 * i;
+        Integer[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.introSort(a, (x, y) -> x.compareTo(y));
+        Assert.assertArrayEquals(b, a);
+    }
+
+    /* Ordena con el adversario de McIlroy usando el ordenamiento recibido, y
+     * revisa que el número de comparaciones se quede en O(n log n). */
+    private void
+    revisaAdversario(int n,
+                     BiConsumer<Integer[], Comparator<Integer>> ordenamiento) {
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = i;
+        Adversario adversario = new Adversario(n);
+        ordenamiento.accept(a, adversario);
+        long comparaciones = adversario.comparaciones;
+        for (int i = 1; i < n; i++)
+            Assert.assertTrue(adversario.compare(a[i-1], a[i]) <= 0);
+        double lg = Math.log(n) / Math.log(2);
+        Assert.assertTrue(comparaciones < 8 * n * lg);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#introSort(Object[],Comparator)},
+     * {@link Arreglos#quickSort(Object[],Comparator)} y {@link
+     * Arreglos#quickSort(Object[],Comparator,Estadisticas)} contra el
+     * adversario de McIlroy; el número de comparaciones tiene que quedarse en
+     * O(n log n).
+     */
+    @Test public void testIntroSortAdversario() {
+        int n = 20000 + random.nextInt(total);
+        revisaAdversario(n, (a, c) -> Arreglos.introSort(a, c));
+        revisaAdversario(n, (a, c) -> Arreglos.quickSort(a, c));
+        Estadisticas e = new Estadisticas();
+        revisaAdversario(n, (a, c) -> Arreglos.quickSort(a, c, e));
+        double lg = Math.log(n) / Math.log(2);
+        Assert.assertTrue(e.getComparaciones() < 8 * n * lg);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#quickSortTresVias(Object[],Comparator)}.
+     */
+    @Test public void testQuickSortTresVias() {
+        Integer[] a = new Integer[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total * 10);
+        Integer[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.quickSortTresVias(a);
+        Assert.assertArrayEquals(b, a);
+        Arreglos.quickSortTresVias(a, (x, y) -> y.compareTo(x));
+        for (int i = 1; i < a.length; i++)
+            Assert.assertTrue(a[i-1] >= a[i]);
+        Arreglos.quickSortTresVias(new Integer[0]);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#quickSortTresVias(Object[],Comparator)} con pocas llaves
+     * distintas, que debe hacer un número lineal de comparaciones.
+     */
+    @Test public void testQuickSortTresViasRepetidos() {
+        int n = total * 1000;
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = random.nextInt(4);
+        long[] comparaciones = new long[1];
+        Arreglos.quickSortTresVias(a, (x, y) -> {
+                comparaciones[0]++;
+                return x.compareTo(y);
+            });
+        for (int i = 1; i < n; i++)
+            Assert.assertTrue(a[i-1] <= a[i]);
+        Assert.assertTrue(comparaciones[0] < 6L * n);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSortCadenas}.
+     */
+    @Test public void testQuickSortCadenas() {
+        String[] a = new String[total * 20];
+        String[] prefijos = { "", "http://a/", "http://a/b/", "http://ab" };
+        for (int i = 0; i < a.length; i++) {
+            StringBuilder sb = new StringBuilder(prefijos[random.nextInt(4)]);
+            int n = random.nextInt(6);
+            for (int j = 0; j < n; j++)
+                sb.append((char)(random.nextInt(3) == 0 ?
+                                 0xe9 : 'a' + random.nextInt(3)));
+            a[i] = sb.toString();
+        }
+        String[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.quickSortCadenas(a);
+        Assert.assertArrayEquals(b, a);
+        StringBuilder[] c = new StringBuilder[a.length];
+        for (int i = 0; i < c.length; i++)
+            c[i] = new StringBuilder(a[c.length - 1 - i]);
+        Arreglos.quickSortCadenas(c);
+        for (int i = 0; i < c.length; i++)
+            Assert.assertTrue(c[i].toString().equals(b[i]));
+        Arreglos.quickSortCadenas(new String[0]);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#mergeSort(Comparable[])}.
+     */
+    @Test public void testMergeSort() {
+        arreglo[0] = 1;
+        arreglo[1] = 0;
+        for (int i = 2; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Assert.assertFalse(estaOrdenado(arreglo));
+        Arreglos.mergeSort(arreglo);
+        Assert.assertTrue(estaOrdenado(arreglo));
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#mergeSort(Object[],Comparator)}; el
+     * ordenamiento tiene que ser estable.
+     */
+    @Test public void testMergeSortComparator() {
+        int n = total * 100;
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = random.nextInt(total) * n + i;
+        Arreglos.mergeSort(a, (x, y) -> Integer.compare(x / n, y / n));
+        for (int i = 1; i < n; i++)
+            Assert.assertTrue(a[i-1] < a[i]);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#mergeSort(Object[],Comparator)} con
+     * arreglos formados por corridas ascendentes y descendentes.
+     */
+    @Test public void testMergeSortCorridas() {
+        int n = 50000 + random.nextInt(total);
+        for (int k = 0; k < 20; k++) {
+            Integer[] a = new Integer[n];
+            int i = 0;
+            while (i < n) {
+                int r = Math.min(n - i, 1 + random.nextInt(n / (k + 1)));
+                int v = random.nextInt(n);
+                boolean baja = random.nextBoolean();
+                for (int j = 0; j < r; j++)
+                    a[i + j] = baja ? v - j / 3 : v + j / 3;
+                i += r;
+            }
+            Integer[] b = a.clone();
+            Arrays.sort(b);
+            Arreglos.mergeSort(a, (x, y) -> x.compareTo(y));
+            Assert.assertArrayEquals(b, a);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSortParalelo(Comparable[])}.
+     */
+    @Test public void testQuickSortParalelo() {
+        Integer[] a = new Integer[50000 + random.nextInt(total)];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt();
+        Integer[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.quickSortParalelo(a);
+        Assert.assertArrayEquals(b, a);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#quickSortParalelo(Object[],Comparator,int,ForkJoinPool)}.
+     */
+    @Test public void testQuickSortParaleloPool() {
+        ForkJoinPool pool = new ForkJoinPool(1 + random.nextInt(4));
+        Integer[] a = new Integer[total * 100];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total);
+        Integer[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.quickSortParalelo(a, (x, y) -> x.compareTo(y), 1 + random.nextInt(total), pool);
+        Assert.assertArrayEquals(b, a);
+        try {
+            Arreglos.quickSortParalelo(a, (x, y) -> x.compareTo(y), 0, pool);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        pool.shutdown();
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#mergeSortParalelo(Comparable[])}.
+     */
+    @Test public void testMergeSortParalelo() {
+        Integer[] a = new Integer[50000 + random.nextInt(total)];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt();
+        Integer[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.mergeSortParalelo(a);
+        Assert.assertArrayEquals(b, a);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#mergeSortParalelo(Object[],Comparator,int,ForkJoinPool)}; el
+     * ordenamiento tiene que ser estable.
+     */
+    @Test public void testMergeSortParaleloEstable() {
+        ForkJoinPool pool = new ForkJoinPool(1 + random.nextInt(4));
+        int n = total * 100;
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = random.nextInt(total) * n + i;
+        Arreglos.mergeSortParalelo(a, (x, y) -> Integer.compare(x / n, y / n),
+                                   1 + random.nextInt(total), pool);
+        for (int i = 1; i < n; i++)
+            Assert.assertTrue(a[i-1] < a[i]);
+        pool.shutdown();
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#sampleSort(Object[],Comparator,ForkJoinPool)}.
+     */
+    @Test public void testSampleSort() {
+        ForkJoinPool pool = new ForkJoinPool(2 + random.nextInt(4));
+        int[] distintos = { Integer.MAX_VALUE, total, 1 };
+        for (int d : distintos) {
+            Integer[] a = new Integer[total * 1000];
+            for (int i = 0; i < a.length; i++)
+                a[i] = random.nextInt(d);
+            Integer[] b = a.clone();
+            Arrays.sort(b);
+            Arreglos.sampleSort(a, (x, y) -> x.compareTo(y), pool);
+            Assert.assertArrayEquals(b, a);
+        }
+        Integer[] a = new Integer[total];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt();
+        Integer[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.sampleSort(a);
+        Assert.assertArrayEquals(b, a);
+        pool.shutdown();
+    }
+
     /**
      * Prueba unitaria para {@link Arreglos#selectionSort(Comparable[])}.
      */
@@ -120,4 +468,786 @@ public class TestArreglos {
         Assert.assertTrue(Arreglos.busquedaBinaria(arreglo, ini - 1) == -1);
         Assert.assertTrue(Arreglos.busquedaBinaria(arreglo, ini + total) == -1);
     }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(int[])}.
+     */
+    @Test public void testQuickSortInt() {
+        int[] a = new int[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt();
+        int[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.quickSort(a);
+        Assert.assertArrayEquals(b, a);
+        for (int i = 0; i < a.length; i++)
+            a[i] = a.length - i;
+        b = a.clone();
+        Arrays.sort(b);
+        Arreglos.quickSort(a);
+        Assert.assertArrayEquals(b, a);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(int[],int,int)}.
+     */
+    @Test public void testQuickSortIntRango() {
+        int[] a = new int[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total);
+        int[] b = a.clone();
+        int desde = random.nextInt(a.length / 2);
+        int hasta = desde + random.nextInt(a.length - desde);
+        Arrays.sort(b, desde, hasta);
+        Arreglos.quickSort(a, desde, hasta);
+        Assert.assertArrayEquals(b, a);
+        try {
+            Arreglos.quickSort(a, -1, a.length);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            Arreglos.quickSort(a, 1, 0);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(int[],int,int)} y {@link
+     * Arreglos#quickSort(long[],int,int)} con bloques chicos, que se ordenan
+     * con redes de ordenamiento.
+     */
+    @Test public void testQuickSortBloques() {
+        for (int n = 0; n <= 40; n++) {
+            for (int k = 0; k < 20; k++) {
+                int[] a = new int[n + 2];
+                long[] x = new long[n + 2];
+                for (int i = 0; i < a.length; i++) {
+                    a[i] = k % 2 == 0 ? random.nextInt() : random.nextInt(4);
+                    x[i] = k % 2 == 0 ? random.nextLong() : random.nextInt(4);
+                }
+                int[] b = a.clone();
+                long[] y = x.clone();
+                Arrays.sort(b, 1, n + 1);
+                Arrays.sort(y, 1, n + 1);
+                Arreglos.quickSort(a, 1, n + 1);
+                Arreglos.quickSort(x, 1, n + 1);
+                Assert.assertArrayEquals(b, a);
+                Assert.assertArrayEquals(y, x);
+            }
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(long[])}.
+     */
+    @Test public void testQuickSortLong() {
+        long[] a = new long[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextLong();
+        long[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.quickSort(a);
+        Assert.assertArrayEquals(b, a);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(double[])}.
+     */
+    @Test public void testQuickSortDouble() {
+        double[] a = new double[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total) - total / 2;
+        a[0] = Double.NaN;
+        a[1] = -0.0;
+        a[2] = 0.0;
+        a[3] = -0.0;
+        double[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.quickSort(a);
+        for (int i = 0; i < a.length; i++)
+            Assert.assertTrue(Double.compare(a[i], b[i]) == 0);
+    }
+
+    /* Regresa una permutación de [0, n) que vuelve cuadrático a un QuickSort
+     * con la mediana del primero, el de en medio y el último, y partición de
+     * Hoare: es la que construye el adversario de McIlroy contra ese
+     * QuickSort, que en cada partición hace que el pivote sea el segundo
+     * elemento más chico del intervalo. */
+    private static int[] asesinoMedianaDeTres(int n) {
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++)
+            p[i] = i;
+        int[] a = new int[n];
+        Arrays.fill(a, -1);
+        int v = 0;
+        int ini = 0, fin = n - 1;
+        while (fin - ini >= 4) {
+            int m = ini + (fin - ini) / 2;
+            a[p[ini]] = v++;
+            a[p[fin]] = v++;
+            int t = p[fin];
+            p[fin] = p[m];
+            p[m] = p[ini+1];
+            p[ini+1] = t;
+            ini += 2;
+        }
+        for (int i = 0; i < n; i++)
+            if (a[i] == -1)
+                a[i] = v++;
+        return a;
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(int[])}, {@link
+     * Arreglos#quickSort(long[])} y {@link Arreglos#quickSort(double[])} con
+     * una entrada que vuelve cuadrática a la mediana de tres; sin el límite
+     * de profundidad cada ordenamiento tarda varios segundos y la prueba
+     * expira.
+     */
+    @Test public void testQuickSortPrimitivosAdversario() {
+        int[] a = asesinoMedianaDeTres((1 << 17) + random.nextInt(total));
+        long[] x = new long[a.length];
+        double[] d = new double[a.length];
+        for (int i = 0; i < a.length; i++)
+            d[i] = x[i] = a[i];
+        Arreglos.quickSort(a);
+        Arreglos.quickSort(x);
+        Arreglos.quickSort(d);
+        for (int i = 0; i < a.length; i++) {
+            Assert.assertTrue(a[i] == i);
+            Assert.assertTrue(x[i] == i);
+            Assert.assertTrue(d[i] == i);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#radixSort(int[])}.
+     */
+    @Test public void testRadixSortInt() {
+        int[] a = new int[total * 100];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt();
+        a[0] = Integer.MIN_VALUE;
+        a[1] = Integer.MAX_VALUE;
+        a[2] = -1;
+        int[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.radixSort(a);
+        Assert.assertArrayEquals(b, a);
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total) - total / 2;
+        b = a.clone();
+        Arrays.sort(b);
+        Arreglos.radixSort(a);
+        Assert.assertArrayEquals(b, a);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#radixSort(long[])}.
+     */
+    @Test public void testRadixSortLong() {
+        long[] a = new long[total * 100];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextLong();
+        a[0] = Long.MIN_VALUE;
+        a[1] = Long.MAX_VALUE;
+        long[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.radixSort(a);
+        Assert.assertArrayEquals(b, a);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#radixSortLlaveEntera(Object[],ToIntFunction)}; el
+     * ordenamiento tiene que ser estable.
+     */
+    @Test public void testRadixSortLlaveEntera() {
+        int n = total * 100;
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = (random.nextInt(total) - total / 2) * n + i;
+        Arreglos.radixSortLlaveEntera(a, x -> Math.floorDiv(x, n));
+        for (int i = 1; i < n; i++)
+            Assert.assertTrue(a[i-1] < a[i]);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#radixSortLlaveLarga(Object[],ToLongFunction)}.
+     */
+    @Test public void testRadixSortLlaveLarga() {
+        Long[] a = new Long[total * 100];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextLong();
+        Long[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.radixSortLlaveLarga(a, x -> x);
+        Assert.assertArrayEquals(b, a);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#busquedaBinaria(int[],int)}.
+     */
+    @Test public void testBusquedaBinariaInt() {
+        int ini = random.nextInt(total);
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++)
+            a[i] = ini + 2 * i;
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i] + 1) == -1);
+        }
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, ini - 1) == -1);
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, 1, total, a[0]) == -1);
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, 1, total, a[1]) == 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#busquedaBinaria(long[],long)}.
+     */
+    @Test public void testBusquedaBinariaLong() {
+        long ini = random.nextInt(total) + (long)Integer.MAX_VALUE;
+        long[] a = new long[total];
+        for (int i = 0; i < total; i++)
+            a[i] = ini + 2 * i;
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i] + 1) == -1);
+        }
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, ini - 1) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#busquedaBinaria(double[],double)}.
+     */
+    @Test public void testBusquedaBinariaDouble() {
+        double[] a = new double[total];
+        for (int i = 0; i < total; i++)
+            a[i] = i * 0.5;
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i] + 0.25) == -1);
+        }
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, -0.0) == -1);
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, Double.NaN) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#busquedaBinariaLote(Object[],Object[],Comparator)}.
+     */
+    @Test public void testBusquedaBinariaLote() {
+        int n = total * 10;
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = random.nextInt(total * 5);
+        Arreglos.quickSort(a);
+        Integer[] claves = new Integer[total];
+        for (int i = 0; i < total; i++)
+            claves[i] = random.nextInt(total * 6) - total / 2;
+        int[] r = Arreglos.busquedaBinariaLote(a, claves, (x, y) -> x.compareTo(y));
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(r[i] == -1 ? Arreglos.busquedaBinaria(a, claves[i]) == -1
+                              : a[r[i]].equals(claves[i]));
+        Arreglos.quickSort(claves);
+        r = Arreglos.busquedaBinariaLote(a, claves);
+        for (int i = 0; i < total; i++) {
+            int j = Arrays.binarySearch(a, claves[i]);
+            if (j < 0) {
+                Assert.assertTrue(r[i] == -1);
+            } else {
+                Assert.assertTrue(a[r[i]].equals(claves[i]));
+                Assert.assertTrue(r[i] == 0 || !a[r[i]-1].equals(claves[i]));
+            }
+        }
+        Assert.assertTrue(Arreglos.busquedaBinariaLote(a, new Integer[0]).length == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#busquedaBinariaLote(Object[],Object[],Comparator)} con
+     * elementos repetidos y claves desordenadas; siempre se tiene que regresar
+     * la primera aparición, igual que con las claves ordenadas.
+     */
+    @Test public void testBusquedaBinariaLoteRepetidos() {
+        Integer[] a = repetidos();
+        Integer[] claves = new Integer[total * 3];
+        for (int i = 0; i < claves.length; i++)
+            claves[i] = random.nextInt(total + 2) - 1;
+        int[] r = Arreglos.busquedaBinariaLote(a, claves);
+        for (int i = 0; i < claves.length; i++) {
+            int j = Arreglos.cotaInferior(a, claves[i]);
+            boolean esta = j < a.length && a[j].equals(claves[i]);
+            Assert.assertTrue(r[i] == (esta ? j : -1));
+        }
+        Integer[] ordenadas = claves.clone();
+        Arreglos.quickSort(ordenadas);
+        int[] s = Arreglos.busquedaBinariaLote(a, ordenadas);
+        for (int i = 0; i < claves.length; i++)
+            Assert.assertTrue(s[i] == r[Arrays.asList(claves)
+                                        .indexOf(ordenadas[i])]);
+    }
+
+    /* Arreglo ordenado de enteros con muchos repetidos. */
+    private Integer[] repetidos() {
+        Integer[] a = new Integer[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total);
+        Arreglos.quickSort(a);
+        return a;
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#cotaInferior(Object[],Object,Comparator)} y {@link
+     * Arreglos#cotaSuperior(Object[],Object,Comparator)}.
+     */
+    @Test public void testCotas() {
+        Integer[] a = repetidos();
+        for (int e = -1; e <= total; e++) {
+            int i = Arreglos.cotaInferior(a, e, (x, y) -> x.compareTo(y));
+            int j = Arreglos.cotaSuperior(a, e, (x, y) -> x.compareTo(y));
+            Assert.assertTrue(i == 0 || a[i-1] < e);
+            Assert.assertTrue(i == a.length || a[i] >= e);
+            Assert.assertTrue(j == 0 || a[j-1] <= e);
+            Assert.assertTrue(j == a.length || a[j] > e);
+            Assert.assertTrue(Arreglos.cotaInferior(a, e) == i);
+            Assert.assertTrue(Arreglos.cotaSuperior(a, e) == j);
+        }
+        Integer[] vacio = new Integer[0];
+        Assert.assertTrue(Arreglos.cotaInferior(vacio, 0) == 0);
+        Assert.assertTrue(Arreglos.cotaSuperior(vacio, 0) == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#rangoIgual(Object[],Object,Comparator)} y {@link
+     * Arreglos#cuentaEnRango(Object[],Object,Object,Comparator)}.
+     */
+    @Test public void testRangoIgualCuentaEnRango() {
+        Integer[] a = repetidos();
+        for (int e = -1; e <= total; e++) {
+            int[] r = Arreglos.rangoIgual(a, e);
+            int c = 0;
+            for (Integer x : a)
+                if (x == e)
+                    c++;
+            Assert.assertTrue(r[1] - r[0] == c);
+            for (int i = r[0]; i < r[1]; i++)
+                Assert.assertTrue(a[i] == e);
+            int f = e + random.nextInt(total / 2);
+            c = 0;
+            for (Integer x : a)
+                if (e <= x && x <= f)
+                    c++;
+            Assert.assertTrue(Arreglos.cuentaEnRango(a, e, f) == c);
+            Assert.assertTrue(Arreglos.cuentaEnRango(a, f + 1, e) == 0);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#cotaInferior(int[],int)}, {@link
+     * Arreglos#cotaSuperior(int[],int)}, {@link Arreglos#rangoIgual(int[],int)}
+     * y {@link Arreglos#cuentaEnRango(int[],int,int)}.
+     */
+    @Test public void testCotasInt() {
+        Integer[] b = repetidos();
+        int[] a = new int[b.length];
+        long[] l = new long[b.length];
+        double[] d = new double[b.length];
+        for (int i = 0; i < b.length; i++)
+            d[i] = l[i] = a[i] = b[i];
+        for (int e = -1; e <= total; e++) {
+            int i = Arreglos.cotaInferior(b, e);
+            int j = Arreglos.cotaSuperior(b, e);
+            Assert.assertTrue(Arreglos.cotaInferior(a, e) == i);
+            Assert.assertTrue(Arreglos.cotaSuperior(a, e) == j);
+            Assert.assertArrayEquals(new int[] { i, j }, Arreglos.rangoIgual(a, e));
+            Assert.assertArrayEquals(new int[] { i, j }, Arreglos.rangoIgual(l, e));
+            Assert.assertArrayEquals(new int[] { i, j }, Arreglos.rangoIgual(d, e));
+            Assert.assertTrue(Arreglos.cuentaEnRango(a, e, e + 2) ==
+                              Arreglos.cuentaEnRango(b, e, e + 2));
+            Assert.assertTrue(Arreglos.cuentaEnRango(l, e, e + 2) ==
+                              Arreglos.cuentaEnRango(b, e, e + 2));
+            Assert.assertTrue(Arreglos.cuentaEnRango(d, e, e + 2.5) ==
+                              Arreglos.cuentaEnRango(b, e, e + 2));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#selecciona(Object[],int,Comparator)}.
+     */
+    @Test public void testSelecciona() {
+        for (int t = 0; t < 20; t++) {
+            Integer[] a = new Integer[1 + random.nextInt(total * 100)];
+            for (int i = 0; i < a.length; i++)
+                a[i] = random.nextInt(t % 2 == 0 ? total : a.length * 10);
+            Integer[] b = a.clone();
+            Arrays.sort(b);
+            int k = random.nextInt(a.length);
+            Assert.assertTrue(Arreglos.selecciona(a, k, (x, y) -> x.compareTo(y))
+                              .equals(b[k]));
+            Assert.assertTrue(a[k].equals(b[k]));
+            for (int i = 0; i < k; i++)
+                Assert.assertTrue(a[i] <= a[k]);
+            for (int i = k + 1; i < a.length; i++)
+                Assert.assertTrue(a[i] >= a[k]);
+        }
+        try {
+            Arreglos.selecciona(arreglo, total);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#selecciona(Object[],int,Comparator)}
+     * contra el adversario de McIlroy; el número de comparaciones tiene que
+     * quedarse lineal.
+     */
+    @Test public void testSeleccionaAdversario() {
+        int n = 20000 + random.nextInt(total);
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = i;
+        Adversario adversario = new Adversario(n);
+        Integer m = Arreglos.selecciona(a, n / 2, adversario);
+        Assert.assertTrue(a[n / 2] == m);
+        Assert.assertTrue(adversario.comparaciones < 20L * n);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#partialSort(Object[],int,Comparator)}.
+     */
+    @Test public void testPartialSort() {
+        Integer[] a = new Integer[total * 100];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total * 10);
+        Integer[] b = a.clone();
+        Arrays.sort(b);
+        int k = random.nextInt(a.length + 1);
+        Arreglos.partialSort(a, k);
+        for (int i = 0; i < k; i++)
+            Assert.assertTrue(a[i].equals(b[i]));
+        Arreglos.partialSort(a, 0, (x, y) -> x.compareTo(y));
+        try {
+            Arreglos.partialSort(a, a.length + 1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#ordenIndices(Object[],Comparator)}.
+     */
+    @Test public void testOrdenIndices() {
+        Integer[] a = new Integer[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total);
+        Integer[] copia = a.clone();
+        int[] p = Arreglos.ordenIndices(a);
+        Assert.assertTrue(Arrays.equals(a, copia));
+        Assert.assertTrue(p.length == a.length);
+        for (int i = 1; i < p.length; i++)
+            Assert.assertTrue(a[p[i-1]] < a[p[i]] ||
+                              (a[p[i-1]].equals(a[p[i]]) && p[i-1] < p[i]));
+        p = Arreglos.ordenIndices(a, (x, y) -> y.compareTo(x));
+        for (int i = 1; i < p.length; i++)
+            Assert.assertTrue(a[p[i-1]] >= a[p[i]]);
+        Assert.assertTrue(Arreglos.ordenIndices(new Integer[0]).length == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#aplicaPermutacion(Object[],int[])}
+     * y sus versiones primitivas.
+     */
+    @Test public void testAplicaPermutacion() {
+        Integer[] a = new Integer[total * 10];
+        int[] x = new int[a.length];
+        long[] y = new long[a.length];
+        double[] z = new double[a.length];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt(total);
+            x[i] = -a[i];
+            y[i] = 2L * a[i];
+            z[i] = a[i] / 2.0;
+        }
+        int[] p = Arreglos.ordenIndices(a);
+        int[] q = p.clone();
+        Integer[] b = a.clone();
+        Arrays.sort(b);
+        Arreglos.aplicaPermutacion(a, p);
+        Arreglos.aplicaPermutacion(x, p);
+        Arreglos.aplicaPermutacion(y, p);
+        Arreglos.aplicaPermutacion(z, p);
+        Assert.assertTrue(Arrays.equals(p, q));
+        Assert.assertTrue(Arrays.equals(a, b));
+        for (int i = 0; i < a.length; i++) {
+            Assert.assertTrue(x[i] == -a[i]);
+            Assert.assertTrue(y[i] == 2L * a[i]);
+            Assert.assertTrue(z[i] == a[i] / 2.0);
+        }
+        int[] r = { 0, 1, 1 };
+        try {
+            Arreglos.aplicaPermutacion(new int[3], r);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        Assert.assertTrue(Arrays.equals(r, new int[] { 0, 1, 1 }));
+        try {
+            Arreglos.aplicaPermutacion(new int[2], r);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#mezclaK(Object[][],Comparator)} y
+     * {@link Arreglos#iteradorMezclaK(Object[][],Comparator)}.
+     */
+    @Test public void testMezclaK() {
+        int k = random.nextInt(20);
+        Integer[][] a = new Integer[k][];
+        int n = 0;
+        for (int i = 0; i < k; i++) {
+            a[i] = new Integer[random.nextInt(total)];
+            for (int j = 0; j < a[i].length; j++)
+                a[i][j] = random.nextInt(total);
+            Arrays.sort(a[i]);
+            n += a[i].length;
+        }
+        Integer[] b = new Integer[n];
+        n = 0;
+        for (Integer[] f : a)
+            for (Integer e : f)
+                b[n++] = e;
+        Arrays.sort(b);
+        Integer[] r = Arreglos.mezclaK(a);
+        Assert.assertArrayEquals(b, r);
+        Iterator<Integer> it = Arreglos.iteradorMezclaK(a);
+        for (Integer e : b)
+            Assert.assertTrue(it.next().equals(e));
+        Assert.assertFalse(it.hasNext());
+        try {
+            it.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        Assert.assertTrue(Arreglos.mezclaK(new Integer[0][]).length == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#mezclaK(Object[][],Comparator)}
+     * que revisa que la mezcla sea estable.
+     */
+    @Test public void testMezclaKEstable() {
+        int k = 1 + random.nextInt(20);
+        int[][][] a = new int[k][][];
+        for (int i = 0; i < k; i++) {
+            a[i] = new int[random.nextInt(total)][];
+            for (int j = 0; j < a[i].length; j++)
+                a[i][j] = new int[] { random.nextInt(5), i, j };
+            Arrays.sort(a[i], (x, y) -> Integer.compare(x[0], y[0]));
+            for (int j = 0; j < a[i].length; j++)
+                a[i][j][2] = j;
+        }
+        int[][] r = Arreglos.mezclaK(a, (x, y) -> Integer.compare(x[0], y[0]));
+        for (int i = 1; i < r.length; i++) {
+            int[] x = r[i-1], y = r[i];
+            Assert.assertTrue(x[0] < y[0] || (x[0] == y[0] &&
+                                              (x[1] < y[1] || (x[1] == y[1] &&
+                                                               x[2] < y[2]))));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#mezclaK(int[][])} y {@link
+     * Arreglos#mezclaK(long[][])}.
+     */
+    @Test public void testMezclaKPrimitivos() {
+        int k = random.nextInt(40);
+        int[][] a = new int[k][];
+        long[][] x = new long[k][];
+        int n = 0;
+        for (int i = 0; i < k; i++) {
+            a[i] = new int[random.nextInt(total)];
+            x[i] = new long[a[i].length];
+            for (int j = 0; j < a[i].length; j++) {
+                a[i][j] = random.nextInt();
+                x[i][j] = random.nextLong();
+            }
+            Arrays.sort(a[i]);
+            Arrays.sort(x[i]);
+            n += a[i].length;
+        }
+        int[] b = new int[n];
+        long[] y = new long[n];
+        n = 0;
+        for (int i = 0; i < k; i++) {
+            System.arraycopy(a[i], 0, b, n, a[i].length);
+            System.arraycopy(x[i], 0, y, n, x[i].length);
+            n += a[i].length;
+        }
+        Arrays.sort(b);
+        Arrays.sort(y);
+        Assert.assertArrayEquals(b, Arreglos.mezclaK(a));
+        Assert.assertArrayEquals(y, Arreglos.mezclaK(x));
+        Assert.assertTrue(Arreglos.mezclaK(new int[0][]).length == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#quickSort(Object[],Comparator,Estadisticas)} y {@link
+     * Arreglos#introSort(Object[],Comparator,Estadisticas)}.
+     */
+    @Test public void testQuickSortEstadisticas() {
+        int n = total * 100;
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = random.nextInt();
+        Integer[] b = a.clone();
+        long[] comparaciones = new long[1];
+        Estadisticas e = new Estadisticas();
+        Arreglos.quickSort(a, (x, y) -> {
+                comparaciones[0]++;
+                return x.compareTo(y);
+            }, e);
+        Assert.assertTrue(estaOrdenado(a));
+        Assert.assertTrue(e.getComparaciones() == comparaciones[0]);
+        Assert.assertTrue(e.getIntercambios() > 0);
+        Assert.assertTrue(e.getMovimientos() > 0);
+        Assert.assertTrue(e.getProfundidadMaxima() > 0);
+        Assert.assertTrue(e.getProfundidadMaxima() < n);
+        Assert.assertTrue(e.getNanosegundos() > 0);
+        long c = e.getComparaciones();
+        Arreglos.quickSort(a, e);
+        Assert.assertTrue(e.getComparaciones() > c);
+        e.reinicia();
+        Assert.assertTrue(e.getComparaciones() == 0);
+        Assert.assertTrue(e.getIntercambios() == 0);
+        Assert.assertTrue(e.getMovimientos() == 0);
+        Assert.assertTrue(e.getProfundidadMaxima() == 0);
+        Assert.assertTrue(e.getNanosegundos() == 0);
+        Adversario adversario = new Adversario(n);
+        for (int i = 0; i < n; i++)
+            b[i] = i;
+        Arreglos.introSort(b, adversario, e);
+        int lg = 31 - Integer.numberOfLeadingZeros(n);
+        Assert.assertTrue(e.getComparaciones() == adversario.comparaciones);
+        Assert.assertTrue(e.getProfundidadMaxima() <= 2 * lg);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#mergeSort(Object[],Comparator,Estadisticas)} y {@link
+     * Arreglos#busquedaBinaria(Object[],Object,Comparator,Estadisticas)}.
+     */
+    @Test public void testMergeSortEstadisticas() {
+        int n = total * 100;
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++)
+            a[i] = i;
+        Estadisticas e = new Estadisticas();
+        Arreglos.mergeSort(a, e);
+        Assert.assertTrue(e.getComparaciones() == n - 1);
+        Assert.assertTrue(e.getMovimientos() == 0);
+        Assert.assertTrue(e.getProfundidadMaxima() == 1);
+        for (int i = 0; i < n; i++)
+            a[i] = random.nextInt();
+        e.reinicia();
+        Arreglos.mergeSort(a, (x, y) -> x.compareTo(y), e);
+        Assert.assertTrue(estaOrdenado(a));
+        Assert.assertTrue(e.getMovimientos() >= n);
+        Assert.assertTrue(e.getProfundidadMaxima() > 1);
+        e.reinicia();
+        int i = random.nextInt(n);
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i], e) == i);
+        int lg = 32 - Integer.numberOfLeadingZeros(n);
+        Assert.assertTrue(e.getComparaciones() > 0);
+        Assert.assertTrue(e.getComparaciones() <= 2 * lg);
+        Assert.assertTrue(e.toString().contains("comparaciones: " +
+                                                e.getComparaciones()));
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#unicos(Object[],Comparator)} y sus
+     * versiones primitivas.
+     */
+    @Test public void testUnicos() {
+        Integer[] a = repetidos();
+        Integer[] b = Arrays.stream(a).distinct().toArray(Integer[]::new);
+        int[] x = new int[a.length];
+        long[] y = new long[a.length];
+        double[] z = new double[a.length + 3];
+        for (int i = 0; i < a.length; i++) {
+            x[i] = a[i];
+            y[i] = a[i];
+            z[i] = a[i];
+        }
+        z[a.length] = Double.NaN;
+        z[a.length + 1] = Double.NaN;
+        z[a.length + 2] = -0.0;
+        Arreglos.quickSort(z);
+        int k = Arreglos.unicos(a);
+        Assert.assertTrue(k == b.length);
+        Assert.assertArrayEquals(b, Arrays.copyOf(a, k));
+        for (int i = k; i < a.length; i++)
+            Assert.assertTrue(a[i] == null);
+        Assert.assertTrue(Arreglos.unicos(x) == k);
+        Assert.assertTrue(Arreglos.unicos(y) == k);
+        for (int i = 0; i < k; i++) {
+            Assert.assertTrue(x[i] == b[i]);
+            Assert.assertTrue(y[i] == b[i]);
+        }
+        int kz = Arreglos.unicos(z);
+        Assert.assertTrue(kz == k + 2);
+        Assert.assertTrue(Double.isNaN(z[kz - 1]));
+        Assert.assertTrue(Arreglos.unicos(new Integer[0]) == 0);
+        Assert.assertTrue(Arreglos.unicos(new int[0]) == 0);
+        Assert.assertTrue(Arreglos.unicos(new int[1]) == 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Arreglos#codificaCorridas(Object[],Comparator,Object[],int[])} y sus
+     * versiones primitivas.
+     */
+    @Test public void testCodificaCorridas() {
+        Integer[] a = repetidos();
+        Integer[] llaves = new Integer[a.length];
+        int[] cuentas = new int[a.length];
+        int k = Arreglos.codificaCorridas(a, llaves, cuentas);
+        int n = 0;
+        for (int i = 0; i < k; i++) {
+            Assert.assertTrue(i == 0 || llaves[i-1] < llaves[i]);
+            for (int j = 0; j < cuentas[i]; j++)
+                Assert.assertTrue(a[n++].equals(llaves[i]));
+        }
+        Assert.assertTrue(n == a.length);
+        int[] x = new int[a.length];
+        long[] y = new long[a.length];
+        double[] z = new double[a.length];
+        for (int i = 0; i < a.length; i++) {
+            x[i] = a[i];
+            y[i] = a[i];
+            z[i] = a[i];
+        }
+        int[] c = new int[k];
+        long[] ly = new long[k];
+        double[] lz = new double[k];
+        Assert.assertTrue(Arreglos.codificaCorridas(y, ly, c) == k);
+        Assert.assertTrue(Arreglos.codificaCorridas(z, lz, c) == k);
+        Assert.assertTrue(Arreglos.codificaCorridas(x, x, c) == k);
+        for (int i = 0; i < k; i++) {
+            Assert.assertTrue(x[i] == llaves[i]);
+            Assert.assertTrue(ly[i] == llaves[i]);
+            Assert.assertTrue(lz[i] == llaves[i]);
+            Assert.assertTrue(c[i] == cuentas[i]);
+        }
+        try {
+            Arreglos.codificaCorridas(a, new Integer[k - 1], cuentas);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        Assert.assertTrue(Arreglos.codificaCorridas(new int[0], new int[0],
+                                                    new int[0]) == 0);
+    }
 }
@@ -0,0 +1,84 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.Random;
+import mx.unam.ciencias.edd.Arreglos;
+import mx.unam.ciencias.edd.IndiceEytzinger;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link IndiceEytzinger}.
+ */
+public class TestIndiceEytzinger {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* El arreglo ordenado. */
+    private String[] arreglo;
+    /* El índice. */
+    private IndiceEytzinger<String> indice;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número
+     * total de elementos, un arreglo ordenado de cadenas distintas, y un
+     * índice sobre el arreglo.
+     */
+    public TestIndiceEytzinger() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        arreglo = new String[total];
+        for (int i = 0; i < total; i++)
+            arreglo[i] = String.format("%04d", 2 * i);
+        indice = new IndiceEytzinger<String>(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Prueba unitaria para {@link IndiceEytzinger#getElementos}.
+     */
+    @Test public void testGetElementos() {
+        Assert.assertTrue(indice.getElementos() == total);
+        IndiceEytzinger<String> vacio =
+            new IndiceEytzinger<String>(new String[0], (a, b) -> a.compareTo(b));
+        Assert.assertTrue(vacio.getElementos() == 0);
+        Assert.assertTrue(vacio.busca("0000") == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link IndiceEytzinger#busca}.
+     */
+    @Test public void testBusca() {
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(indice.busca(arreglo[i]) == i);
+            Assert.assertTrue(indice.busca(arreglo[i]) ==
+                              Arreglos.busquedaBinaria(arreglo, arreglo[i]));
+            Assert.assertTrue(indice.busca(String.format("%04d", 2 * i + 1)) == -1);
+        }
+        Assert.assertTrue(indice.busca("") == -1);
+        Assert.assertTrue(indice.busca("z") == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link IndiceEytzinger#busca} con elementos
+     * repetidos; se tiene que regresar el primero.
+     */
+    @Test public void testBuscaRepetidos() {
+        Integer[] a = new Integer[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total);
+        Arreglos.quickSort(a);
+        IndiceEytzinger<Integer> ie =
+            new IndiceEytzinger<Integer>(a, (x, y) -> x.compareTo(y));
+        for (int i = 0; i < a.length; i++) {
+            int j = ie.busca(a[i]);
+            Assert.assertTrue(a[j].equals(a[i]));
+            Assert.assertTrue(j == 0 || !a[j-1].equals(a[i]));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.Random;
+import mx.unam.ciencias.edd.Arreglos;
+import mx.unam.ciencias.edd.IndiceEytzinger;
+import mx.unam.ciencias.edd.IndiceEytzingerEnteros;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link IndiceEytzingerEnteros}.
+ */
+public class TestIndiceEytzingerEnteros {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* El arreglo ordenado. */
+    private int[] arreglo;
+    /* El índice. */
+    private IndiceEytzingerEnteros indice;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número
+     * total de elementos, un arreglo ordenado de enteros pares distintos, y
+     * un índice sobre el arreglo.
+     */
+    public TestIndiceEytzingerEnteros() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        arreglo = new int[total];
+        int ini = random.nextInt(total) - total;
+        for (int i = 0; i < total; i++)
+            arreglo[i] = ini + 2 * i;
+        indice = new IndiceEytzingerEnteros(arreglo);
+    }
+
+    /**
+     * Prueba unitaria para {@link IndiceEytzingerEnteros#getElementos}.
+     */
+    @Test public void testGetElementos() {
+        Assert.assertTrue(indice.getElementos() == total);
+        IndiceEytzingerEnteros vacio = new IndiceEytzingerEnteros(new int[0]);
+        Assert.assertTrue(vacio.getElementos() == 0);
+        Assert.assertTrue(vacio.busca(0) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link IndiceEytzingerEnteros#busca}.
+     */
+    @Test public void testBusca() {
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(indice.busca(arreglo[i]) == i);
+            Assert.assertTrue(indice.busca(arreglo[i]) ==
+                              Arreglos.busquedaBinaria(arreglo, arreglo[i]));
+            Assert.assertTrue(indice.busca(arreglo[i] + 1) == -1);
+        }
+        Assert.assertTrue(indice.busca(arreglo[0] - 1) == -1);
+        Assert.assertTrue(indice.busca(Integer.MIN_VALUE) == -1);
+        Assert.assertTrue(indice.busca(Integer.MAX_VALUE) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link IndiceEytzingerEnteros#busca} con enteros
+     * negativos y extremos, que se guardan junto con su índice.
+     */
+    @Test public void testBuscaExtremos() {
+        int[] a = { Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1, 0, 1,
+                    Integer.MAX_VALUE - 1, Integer.MAX_VALUE };
+        IndiceEytzingerEnteros ie = new IndiceEytzingerEnteros(a);
+        for (int i = 0; i < a.length; i++)
+            Assert.assertTrue(ie.busca(a[i]) == i);
+        Assert.assertTrue(ie.busca(-2) == -1);
+        Assert.assertTrue(ie.busca(2) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link IndiceEytzingerEnteros#busca} con elementos
+     * repetidos; tiene que regresar lo mismo que {@link IndiceEytzinger}.
+     */
+    @Test public void testBuscaRepetidos() {
+        int[] a = new int[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total) - total / 2;
+        Arreglos.quickSort(a);
+        Integer[] b = new Integer[a.length];
+        for (int i = 0; i < a.length; i++)
+            b[i] = a[i];
+        IndiceEytzingerEnteros ie = new IndiceEytzingerEnteros(a);
+        IndiceEytzinger<Integer> ig =
+            new IndiceEytzinger<Integer>(b, (x, y) -> x.compareTo(y));
+        for (int i = -total; i <= total; i++)
+            Assert.assertTrue(ie.busca(i) == ig.busca(i));
+    }
+}
@@ -1,8 +1,11 @@
 package mx.unam.ciencias.edd.test;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import mx.unam.ciencias.edd.Coleccion;
 import mx.unam.ciencias.edd.ExcepcionIndiceInvalido;
 import mx.unam.ciencias.edd.IteradorLista;
@@ -58,15 +61,15 @@ public class TestLista {
     }
 
     /* Valida una lista. */
-    private void validaLista(Lista<String> lista) {
+    private <T> void validaLista(Lista<T> lista) {
         int longitud = lista.getLongitud();
-        String[] arreglo = new String[longitud];
+        Object[] arreglo = new Object[longitud];
         int c = 0;
-        for (String n : lista)
+        for (T n : lista)
             arreglo[c++] = n;
         Assert.assertTrue(c == longitud);
         c = 0;
-        IteradorLista<String> i = lista.iteradorLista();
+        IteradorLista<T> i = lista.iteradorLista();
         while (i.hasNext())
             Assert.assertTrue(arreglo[c++].equals(i.next()));
         Assert.assertTrue(c == longitud);
@@ -584,6 +587,72 @@ public class TestLista {
         } catch (ExcepcionIndiceInvalido eii) {}
     }
 
+    /**
+     * Prueba unitaria para {@link Lista#get} y {@link Lista#inserta}
+     * mezclados con operaciones que mueven los índices, comparando contra un
+     * {@link ArrayList}.
+     */
+    @Test public void testGetIntercalado() {
+        ArrayList<String> modelo = new ArrayList<String>();
+        for (int i = 0; i < total; i++) {
+            String e = str(i);
+            lista.agrega(e);
+            modelo.add(e);
+        }
+        for (int k = 0; k < total * 50; k++) {
+            int i = random.nextInt(modelo.size());
+            String e = str(total + k);
+            switch (random.nextInt(7)) {
+            case 0:
+                lista.inserta(i, e);
+                modelo.add(i, e);
+                break;
+            case 1:
+                lista.agregaInicio(e);
+                modelo.add(0, e);
+                break;
+            case 2:
+                lista.agregaFinal(e);
+                modelo.add(e);
+                break;
+            case 3:
+                if (modelo.size() > 1)
+                    Assert.assertTrue(lista.eliminaPrimero()
+                                      .equals(modelo.remove(0)));
+                break;
+            case 4:
+                if (modelo.size() > 1) {
+                    e = modelo.remove(modelo.size() - 1);
+                    Assert.assertTrue(lista.eliminaUltimo().equals(e));
+                }
+                break;
+            case 5:
+                if (modelo.size() > 1)
+                    lista.elimina(modelo.remove(i));
+                break;
+            default:
+                Assert.assertTrue(lista.indiceDe(modelo.get(i)) == i);
+            }
+            Assert.assertTrue(lista.getLongitud() == modelo.size());
+            int j = random.nextInt(modelo.size());
+            Assert.assertTrue(lista.get(j).equals(modelo.get(j)));
+            if (j > 0)
+                Assert.assertTrue(lista.get(j - 1).equals(modelo.get(j - 1)));
+        }
+        for (int i = 0; i < modelo.size(); i++)
+            Assert.assertTrue(lista.get(i).equals(modelo.get(i)));
+        validaLista(lista);
+        /* Recorrer por índices una lista grande tiene que ser lineal. */
+        Lista<Integer> l = new Lista<Integer>();
+        int n = 200000;
+        for (int i = 0; i < n; i++)
+            l.agrega(i);
+        for (int i = 0; i < n; i++)
+            Assert.assertTrue(l.get(i) == i);
+        for (int i = n - 1; i >= 0; i--)
+            Assert.assertTrue(l.get(i) == i);
+    }
+
     /**
      * Prueba unitaria para {@link Lista#indiceDe}.
      */
@@ -795,6 +864,145 @@ public class TestLista {
         }
     }
 
+    /**
+     * Prueba unitaria para {@link Lista#ordena(Comparator)}.
+     */
+    @Test public void testOrdena() {
+        lista.ordena((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.esVacia());
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(str(random.nextInt(total)));
+        Lista<String> copia = lista.copia();
+        lista.ordena((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.getLongitud() == copia.getLongitud());
+        for (String e : copia)
+            Assert.assertTrue(lista.contiene(e));
+        String a = lista.getPrimero();
+        for (String e : lista) {
+            Assert.assertTrue(a.compareTo(e) <= 0);
+            a = e;
+        }
+        Assert.assertTrue(lista.getUltimo().equals(a));
+        validaLista(lista);
+        Lista<String> ordenada = copia.mergeSort((x, y) -> x.compareTo(y));
+        Assert.assertTrue(lista.equals(ordenada));
+        /* Prueba estabilidad. */
+        total = 100 + total * 10;
+        int m = 7 + random.nextInt(20);
+        Lista<Par> pares = new Lista<Par>();
+        for (int i = 0; i < total; i++) {
+            int v = ((i % m) == 0) ? m : random.nextInt(total);
+            pares.agrega(new Par(v, i));
+        }
+        Lista.ordena(pares);
+        Par u = null;
+        for (Par par : pares) {
+            if (u != null) {
+                Assert.assertTrue(u.getValor() <= par.getValor());
+                if (u.getValor() == par.getValor())
+                    Assert.assertTrue(u.getEtiqueta() < par.getEtiqueta());
+            }
+            u = par;
+        }
+        Assert.assertTrue(pares.getLongitud() == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Lista#mergeSortParalelo(Comparator,ForkJoinPool)}; el ordenamiento
+     * tiene que ser estable y no modificar la lista original.
+     */
+    @Test public void testMergeSortParalelo() {
+        ForkJoinPool pool = new ForkJoinPool(1 + random.nextInt(4));
+        Lista<Integer> vacia = new Lista<Integer>();
+        Assert.assertTrue(vacia.mergeSortParalelo((a, b) -> a - b,
+                                                  pool).esVacia());
+        int n = 50000 + random.nextInt(total * 1000);
+        Lista<Integer> l = new Lista<Integer>();
+        for (int i = 0; i < n; i++)
+            l.agregaFinal(random.nextInt(total) * n + i);
+        Lista<Integer> copia = l.copia();
+        Lista<Integer> ordenada =
+            l.mergeSortParalelo((x, y) -> Integer.compare(x / n, y / n), pool);
+        Assert.assertTrue(l.equals(copia));
+        Assert.assertTrue(ordenada.getLongitud() == n);
+        Integer u = null;
+        for (Integer e : ordenada) {
+            Assert.assertTrue(u == null || u < e);
+            u = e;
+        }
+        Assert.assertTrue(ordenada.getUltimo().equals(u));
+        validaLista(ordenada);
+        ordenada = Lista.mergeSortParalelo(l);
+        Assert.assertTrue(ordenada.equals(Lista.mergeSort(l)));
+        pool.shutdown();
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#ordenaNatural(Comparator)}.
+     */
+    @Test public void testOrdenaNatural() {
+        lista.ordenaNatural((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.esVacia());
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(str(random.nextInt(total)));
+        Lista<String> ordenada = lista.mergeSort((a, b) -> a.compareTo(b));
+        lista.ordenaNatural((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.equals(ordenada));
+        Assert.assertTrue(lista.getUltimo().equals(ordenada.getUltimo()));
+        validaLista(lista);
+        /* Ordenada y al revés: una corrida, n-1 comparaciones. */
+        Lista<Integer> enteros = new Lista<Integer>();
+        for (int i = 0; i < total; i++)
+            enteros.agregaFinal(i);
+        int[] c = { 0 };
+        Comparator<Integer> cuenta = (a, b) -> { c[0]++; return a - b; };
+        enteros.ordenaNatural(cuenta);
+        Assert.assertTrue(c[0] == total - 1);
+        enteros = enteros.reversa();
+        c[0] = 0;
+        enteros.ordenaNatural(cuenta);
+        Assert.assertTrue(c[0] == total - 1);
+        int i = 0;
+        for (Integer e : enteros)
+            Assert.assertTrue(e == i++);
+        validaLista(enteros);
+        /* Casi ordenada: pocas corridas, pocas comparaciones. */
+        enteros.limpia();
+        total = 1000 + total * 10;
+        for (i = 0; i < total; i++)
+            enteros.agregaFinal((i % 100 == 0) ? -i : i);
+        c[0] = 0;
+        enteros.ordenaNatural(cuenta);
+        Assert.assertTrue(c[0] < 5 * total);
+        Integer u = null;
+        for (Integer e : enteros) {
+            Assert.assertTrue(u == null || u <= e);
+            u = e;
+        }
+        validaLista(enteros);
+        /* Prueba estabilidad, con corridas crecientes y decrecientes. */
+        int m = 7 + random.nextInt(20);
+        Lista<Par> pares = new Lista<Par>();
+        for (i = 0; i < total; i++) {
+            int v = ((i % m) == 0) ? m : random.nextInt(total);
+            if ((i / 50) % 3 == 1)
+                v = total - i % 50 / 2;
+            pares.agrega(new Par(v, i));
+        }
+        Lista.ordenaNatural(pares);
+        Par p = null;
+        for (Par par : pares) {
+            if (p != null) {
+                Assert.assertTrue(p.getValor() <= par.getValor());
+                if (p.getValor() == par.getValor())
+                    Assert.assertTrue(p.getEtiqueta() < par.getEtiqueta());
+            }
+            p = par;
+        }
+        Assert.assertTrue(pares.getLongitud() == total);
+    }
+
     /**
      * Prueba unitaria para {@link Lista#mergeSort(Lista)}.
      */
@@ -0,0 +1,404 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import mx.unam.ciencias.edd.ExcepcionIndiceInvalido;
+import mx.unam.ciencias.edd.IteradorLista;
+import mx.unam.ciencias.edd.Lista;
+import mx.unam.ciencias.edd.ListaDesenrollada;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ListaDesenrollada}.
+ */
+public class TestListaDesenrollada {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos; siempre abarca varios bloques. */
+    private int total;
+    /* La lista. */
+    private ListaDesenrollada<String> lista;
+
+    /* Valida la lista contra el modelo, en ambas direcciones. */
+    private void validaLista(ListaDesenrollada<String> lista,
+                             ArrayList<String> modelo) {
+        Assert.assertTrue(lista.getLongitud() == modelo.size());
+        Assert.assertTrue(lista.getElementos() == modelo.size());
+        Assert.assertTrue(lista.esVacia() == modelo.isEmpty());
+        int c = 0;
+        for (String e : lista)
+            Assert.assertTrue(e.equals(modelo.get(c++)));
+        Assert.assertTrue(c == modelo.size());
+        IteradorLista<String> i = lista.iteradorLista();
+        i.end();
+        while (i.hasPrevious())
+            Assert.assertTrue(i.previous().equals(modelo.get(--c)));
+        Assert.assertTrue(c == 0);
+    }
+
+    /* Convierte un entero en cadena. */
+    private String str(int n) {
+        return String.valueOf(n);
+    }
+
+    /* Llena la lista y el modelo con total elementos aleatorios. */
+    private ArrayList<String> llena() {
+        ArrayList<String> modelo = new ArrayList<String>();
+        for (int i = 0; i < total; i++) {
+            String e = str(random.nextInt(total));
+            lista.agrega(e);
+            modelo.add(e);
+        }
+        return modelo;
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número total
+     * de elementos para nuestra lista, y una lista.
+     */
+    public TestListaDesenrollada() {
+        random = new Random();
+        total = ListaDesenrollada.CAPACIDAD * (2 + random.nextInt(8)) +
+            random.nextInt(ListaDesenrollada.CAPACIDAD);
+        lista = new ListaDesenrollada<String>();
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#agrega} y {@link
+     * ListaDesenrollada#agregaInicio}.
+     */
+    @Test public void testAgrega() {
+        try {
+            lista.agrega(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            lista.agregaInicio(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        ArrayList<String> modelo = new ArrayList<String>();
+        validaLista(lista, modelo);
+        for (int i = 0; i < total; i++) {
+            String e = str(i);
+            if (random.nextBoolean()) {
+                lista.agregaFinal(e);
+                modelo.add(e);
+                Assert.assertTrue(lista.getUltimo().equals(e));
+            } else {
+                lista.agregaInicio(e);
+                modelo.add(0, e);
+                Assert.assertTrue(lista.getPrimero().equals(e));
+            }
+        }
+        validaLista(lista, modelo);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#inserta}.
+     */
+    @Test public void testInserta() {
+        try {
+            lista.inserta(0, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        ArrayList<String> modelo = new ArrayList<String>();
+        for (int i = 0; i < total; i++) {
+            int j = random.nextInt(modelo.size() + 3) - 1;
+            String e = str(i);
+            lista.inserta(j, e);
+            modelo.add(Math.max(0, Math.min(j, modelo.size())), e);
+        }
+        validaLista(lista, modelo);
+        /* Siempre en el mismo lugar, para partir bloques llenos. */
+        for (int i = 0; i < total; i++) {
+            String e = str(total + i);
+            lista.inserta(total / 2, e);
+            modelo.add(total / 2, e);
+        }
+        validaLista(lista, modelo);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#elimina}.
+     */
+    @Test public void testElimina() {
+        ArrayList<String> modelo = llena();
+        lista.elimina(str(total));
+        validaLista(lista, modelo);
+        while (!modelo.isEmpty()) {
+            String e = modelo.get(random.nextInt(modelo.size()));
+            lista.elimina(e);
+            modelo.remove(e);
+            if (random.nextInt(10) == 0)
+                validaLista(lista, modelo);
+        }
+        validaLista(lista, modelo);
+        lista.agrega("1");
+        Assert.assertTrue(lista.getPrimero().equals("1"));
+        Assert.assertTrue(lista.getUltimo().equals("1"));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#eliminaPrimero} y {@link
+     * ListaDesenrollada#eliminaUltimo}.
+     */
+    @Test public void testEliminaExtremos() {
+        try {
+            lista.eliminaPrimero();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            lista.eliminaUltimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        ArrayList<String> modelo = llena();
+        while (!modelo.isEmpty()) {
+            if (random.nextBoolean())
+                Assert.assertTrue(lista.eliminaPrimero()
+                                  .equals(modelo.remove(0)));
+            else
+                Assert.assertTrue(lista.eliminaUltimo().equals(
+                                      modelo.remove(modelo.size() - 1)));
+        }
+        validaLista(lista, modelo);
+        try {
+            lista.getPrimero();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            lista.getUltimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#get} y {@link
+     * ListaDesenrollada#indiceDe}.
+     */
+    @Test public void testGet() {
+        ArrayList<String> modelo = llena();
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(lista.get(i).equals(modelo.get(i)));
+        for (int i = total - 1; i >= 0; i--)
+            Assert.assertTrue(lista.get(i).equals(modelo.get(i)));
+        for (int i = 0; i < total; i++) {
+            int j = random.nextInt(total);
+            Assert.assertTrue(lista.get(j).equals(modelo.get(j)));
+            Assert.assertTrue(lista.indiceDe(modelo.get(j)) ==
+                              modelo.indexOf(modelo.get(j)));
+        }
+        Assert.assertTrue(lista.indiceDe(str(total)) == -1);
+        int[] invalidos = { -1, -2, total, total * 2 };
+        for (int i : invalidos)
+            try {
+                lista.get(i);
+                Assert.fail();
+            } catch (ExcepcionIndiceInvalido eii) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada} con operaciones
+     * mezcladas, comparando contra un {@link ArrayList}.
+     */
+    @Test public void testIntercalado() {
+        ArrayList<String> modelo = llena();
+        for (int k = 0; k < total * 20; k++) {
+            int i = modelo.isEmpty() ? 0 : random.nextInt(modelo.size());
+            String e = str(total + k);
+            switch (random.nextInt(6)) {
+            case 0:
+            case 1:
+                lista.inserta(i, e);
+                modelo.add(i, e);
+                break;
+            case 2:
+                lista.agrega(e);
+                modelo.add(e);
+                break;
+            case 3:
+            case 4:
+                if (!modelo.isEmpty()) {
+                    e = modelo.get(i);
+                    lista.elimina(e);
+                    modelo.remove(e);
+                }
+                break;
+            default:
+                if (!modelo.isEmpty())
+                    Assert.assertTrue(lista.get(i).equals(modelo.get(i)));
+            }
+            Assert.assertTrue(lista.getLongitud() == modelo.size());
+        }
+        validaLista(lista, modelo);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#contiene}.
+     */
+    @Test public void testContiene() {
+        ArrayList<String> modelo = llena();
+        for (String e : modelo)
+            Assert.assertTrue(lista.contiene(e));
+        Assert.assertFalse(lista.contiene(str(total)));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#reversa} y {@link
+     * ListaDesenrollada#copia}.
+     */
+    @Test public void testReversaCopia() {
+        ArrayList<String> modelo = llena();
+        ListaDesenrollada<String> copia = lista.copia();
+        Assert.assertTrue(copia != lista);
+        Assert.assertTrue(copia.equals(lista));
+        validaLista(copia, modelo);
+        copia.eliminaPrimero();
+        validaLista(lista, modelo);
+        ListaDesenrollada<String> reversa = lista.reversa();
+        validaLista(lista, modelo);
+        ArrayList<String> r = new ArrayList<String>();
+        for (int i = modelo.size() - 1; i >= 0; i--)
+            r.add(modelo.get(i));
+        validaLista(reversa, r);
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#limpia}.
+     */
+    @Test public void testLimpia() {
+        llena();
+        lista.get(total / 2);
+        lista.limpia();
+        validaLista(lista, new ArrayList<String>());
+        lista.agrega("1");
+        Assert.assertTrue(lista.get(0).equals("1"));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#toString}.
+     */
+    @Test public void testToString() {
+        Assert.assertTrue(lista.toString().equals("[]"));
+        Lista<String> l = new Lista<String>();
+        for (int i = 0; i < total; i++) {
+            String e = str(random.nextInt(total));
+            lista.agrega(e);
+            l.agrega(e);
+        }
+        Assert.assertTrue(lista.toString().equals(l.toString()));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#equals} y {@link
+     * ListaDesenrollada#hashCode}.
+     */
+    @Test public void testEquals() {
+        ListaDesenrollada<String> otra = new ListaDesenrollada<String>();
+        Assert.assertTrue(lista.equals(otra));
+        Assert.assertFalse(lista.equals(null));
+        Assert.assertFalse(lista.equals(new Lista<String>()));
+        ArrayList<String> modelo = llena();
+        /* La misma secuencia con otros bloques. */
+        for (int i = modelo.size() - 1; i >= 0; i--)
+            otra.agregaInicio(modelo.get(i));
+        Assert.assertTrue(lista.equals(otra));
+        Assert.assertTrue(lista.hashCode() == otra.hashCode());
+        otra.inserta(total / 2, str(total));
+        Assert.assertFalse(lista.equals(otra));
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#iteradorLista}.
+     */
+    @Test public void testIteradorLista() {
+        IteradorLista<String> i = lista.iteradorLista();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertFalse(i.hasPrevious());
+        try {
+            i.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            i.previous();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        ArrayList<String> modelo = llena();
+        i = lista.iteradorLista();
+        int c = 0;
+        for (int k = 0; k < total * 4; k++) {
+            if (random.nextBoolean() && i.hasNext())
+                Assert.assertTrue(i.next().equals(modelo.get(c++)));
+            else if (i.hasPrevious())
+                Assert.assertTrue(i.previous().equals(modelo.get(--c)));
+            Assert.assertTrue(i.hasNext() == (c < total));
+            Assert.assertTrue(i.hasPrevious() == (c > 0));
+        }
+        i.start();
+        Assert.assertFalse(i.hasPrevious());
+        Assert.assertTrue(i.next().equals(modelo.get(0)));
+        i.end();
+        Assert.assertFalse(i.hasNext());
+        Assert.assertTrue(i.previous().equals(modelo.get(total - 1)));
+        Iterator<String> it = lista.iterator();
+        for (String e : modelo)
+            Assert.assertTrue(it.next().equals(e));
+        Assert.assertFalse(it.hasNext());
+    }
+
+    /**
+     * Prueba unitaria para {@link ListaDesenrollada#mergeSort(Comparator)} y
+     * {@link ListaDesenrollada#ordena(Comparator)}; el ordenamiento tiene que
+     * ser estable.
+     */
+    @Test public void testMergeSort() {
+        ArrayList<String> modelo = llena();
+        ListaDesenrollada<String> ordenada = ListaDesenrollada.mergeSort(lista);
+        validaLista(lista, modelo);
+        modelo.sort((a, b) -> a.compareTo(b));
+        validaLista(ordenada, modelo);
+        ListaDesenrollada.ordena(lista);
+        Assert.assertTrue(lista.equals(ordenada));
+        ListaDesenrollada<Integer> l = new ListaDesenrollada<Integer>();
+        int n = total * 10;
+        for (int i = 0; i < n; i++)
+            l.agrega(random.nextInt(total) * n + i);
+        Comparator<Integer> c = (x, y) -> Integer.compare(x / n, y / n);
+        ListaDesenrollada<Integer> a = l.mergeSort(c);
+        ForkJoinPool pool = new ForkJoinPool(1 + random.nextInt(4));
+        ListaDesenrollada<Integer> b = l.mergeSortParalelo(c, pool);
+        pool.shutdown();
+        Assert.assertTrue(a.equals(b));
+        int u = -1;
+        for (Integer e : a) {
+            Assert.assertTrue(u < e);
+            u = e;
+        }
+        Assert.assertTrue(a.getLongitud() == n);
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * ListaDesenrollada#busquedaLineal(Object,Comparator)}.
+     */
+    @Test public void testBusquedaLineal() {
+        for (int i = 0; i < total; i++)
+            lista.agrega(str(2 * i));
+        Comparator<String> c = (a, b) -> a.compareTo(b);
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(lista.busquedaLineal(str(2 * i), c));
+            Assert.assertFalse(lista.busquedaLineal(str(2 * i + 1), c));
+        }
+        Assert.assertTrue(ListaDesenrollada.busquedaLineal(lista, str(0)));
+    }
+}
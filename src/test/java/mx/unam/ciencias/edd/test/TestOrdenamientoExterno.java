@@ -0,0 +1,231 @@
+package mx.unam.ciencias.edd.test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+import mx.unam.ciencias.edd.CodificadorRegistro;
+import mx.unam.ciencias.edd.Lista;
+import mx.unam.ciencias.edd.OrdenamientoExterno;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link OrdenamientoExterno}.
+ */
+public class TestOrdenamientoExterno {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* El directorio para los archivos temporales. */
+    private Path directorio;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un número
+     * total de elementos, y un directorio temporal.
+     * @throws Exception si no se puede crear el directorio.
+     */
+    public TestOrdenamientoExterno() throws Exception {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        directorio = Files.createTempDirectory("externo");
+    }
+
+    /**
+     * Borra el directorio temporal, que debe quedar vacío.
+     * @throws Exception si no se puede borrar el directorio.
+     */
+    @After public void borraDirectorio() throws Exception {
+        Files.delete(directorio);
+    }
+
+    /* Cuenta los archivos en el directorio temporal. */
+    private long archivos() throws Exception {
+        try (Stream<Path> s = Files.list(directorio)) {
+            return s.count();
+        }
+    }
+
+    /* Cuenta los descriptores abiertos del proceso que apuntan a archivos del
+     * directorio temporal. */
+    private long canales() throws Exception {
+        Path real = directorio.toRealPath();
+        long n = 0;
+        try (Stream<Path> s = Files.list(Paths.get("/proc/self/fd"))) {
+            for (Path fd : (Iterable<Path>)s::iterator) {
+                try {
+                    if (Files.readSymbolicLink(fd).startsWith(real))
+                        n++;
+                } catch (IOException ioe) {}
+            }
+        }
+        return n;
+    }
+
+    /* Regresa un ordenamiento externo de enteros. */
+    private OrdenamientoExterno<Integer> ordenamiento(int porCorrida,
+                                                      int porVentana) {
+        return new OrdenamientoExterno<Integer>(CodificadorRegistro.enteros(),
+                                                (a, b) -> a.compareTo(b),
+                                                porCorrida, porVentana,
+                                                directorio);
+    }
+
+    /* Ordena el arreglo y compara contra Arrays.sort. */
+    private void revisa(OrdenamientoExterno<Integer> o, Integer[] a) {
+        Integer[] ordenado = a.clone();
+        Arrays.sort(ordenado);
+        Iterator<Integer> it = o.ordena(Arrays.asList(a));
+        for (Integer e : ordenado) {
+            Assert.assertTrue(it.hasNext());
+            Assert.assertTrue(it.next().equals(e));
+        }
+        Assert.assertFalse(it.hasNext());
+        try {
+            it.next();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenamientoExterno#ordena(Iterable)} con
+     * corridas pequeñas y ventanas menores a las corridas.
+     * @throws Exception si ocurre un error con los archivos.
+     */
+    @Test public void testOrdena() throws Exception {
+        Integer[] a = new Integer[total * 10];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt(total);
+        try (OrdenamientoExterno<Integer> o = ordenamiento(total / 3, 4)) {
+            Assert.assertTrue(o.getElementosPorCorrida() == total / 3);
+            revisa(o, a);
+            Assert.assertTrue(archivos() == 0);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenamientoExterno#ordena(Iterator)} con
+     * entradas vacías y que caben en una corrida.
+     * @throws Exception si ocurre un error con los archivos.
+     */
+    @Test public void testOrdenaEnMemoria() throws Exception {
+        try (OrdenamientoExterno<Integer> o = ordenamiento(total, 7)) {
+            revisa(o, new Integer[0]);
+            Integer[] a = new Integer[total];
+            for (int i = 0; i < total; i++)
+                a[i] = random.nextInt();
+            revisa(o, a);
+            Assert.assertTrue(archivos() == 0);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenamientoExterno#ordena(Iterable)} con
+     * más corridas de las que se mezclan a la vez.
+     * @throws Exception si ocurre un error con los archivos.
+     */
+    @Test public void testOrdenaVariasPasadas() throws Exception {
+        Integer[] a = new Integer[600 + random.nextInt(200)];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt();
+        try (OrdenamientoExterno<Integer> o = ordenamiento(1, 3)) {
+            revisa(o, a);
+            Assert.assertTrue(archivos() == 0);
+        }
+        try (OrdenamientoExterno<Integer> o = ordenamiento(2, 1)) {
+            revisa(o, a);
+            Assert.assertTrue(archivos() == 0);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenamientoExterno#ordena(Iterable)} que
+     * revisa que el ordenamiento sea estable.
+     */
+    @Test public void testOrdenaEstable() {
+        /* Registros de llave y posición original, ordenados por llave. */
+        CodificadorRegistro<int[]> pares = new CodificadorRegistro<int[]>() {
+            @Override public int getTamano() {
+                return 2 * Integer.BYTES;
+            }
+            @Override public void codifica(int[] e, ByteBuffer buffer) {
+                buffer.putInt(e[0]).putInt(e[1]);
+            }
+            @Override public int[] decodifica(ByteBuffer buffer) {
+                return new int[] { buffer.getInt(), buffer.getInt() };
+            }
+        };
+        Lista<int[]> l = new Lista<int[]>();
+        for (int i = 0; i < total * 10; i++)
+            l.agrega(new int[] { random.nextInt(5), i });
+        try (OrdenamientoExterno<int[]> o =
+             new OrdenamientoExterno<int[]>(pares,
+                                            (a, b) -> Integer.compare(a[0], b[0]),
+                                            1 + random.nextInt(total), 5,
+                                            directorio)) {
+            Iterator<int[]> it = o.ordena(l);
+            int[] anterior = it.next();
+            int n = 1;
+            while (it.hasNext()) {
+                int[] e = it.next();
+                Assert.assertTrue(anterior[0] < e[0] ||
+                                  (anterior[0] == e[0] && anterior[1] < e[1]));
+                anterior = e;
+                n++;
+            }
+            Assert.assertTrue(n == l.getLongitud());
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenamientoExterno#close}.
+     * @throws Exception si ocurre un error con los archivos.
+     */
+    @Test public void testClose() throws Exception {
+        Integer[] a = new Integer[total * 4];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt();
+        OrdenamientoExterno<Integer> o = ordenamiento(total, 8);
+        Iterator<Integer> it = o.ordena(Arrays.asList(a));
+        it.next();
+        Assert.assertTrue(archivos() > 0);
+        o.close();
+        Assert.assertTrue(archivos() == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link OrdenamientoExterno#close} con corridas que
+     * se mezclaron en varias pasadas y no se terminaron de leer.
+     * @throws Exception si ocurre un error con los archivos.
+     */
+    @Test public void testCloseCanales() throws Exception {
+        Assume.assumeTrue(Files.isDirectory(Paths.get("/proc/self/fd")));
+        Integer[] a = new Integer[600 + total];
+        for (int i = 0; i < a.length; i++)
+            a[i] = random.nextInt();
+        OrdenamientoExterno<Integer> o = ordenamiento(1, 4);
+        Iterator<Integer> it = o.ordena(Arrays.asList(a));
+        Assert.assertTrue(canales() > 0);
+        for (int i = 0; i < total; i++)
+            it.next();
+        Assert.assertTrue(canales() > 0);
+        o.close();
+        Assert.assertTrue(canales() == 0);
+        Assert.assertTrue(archivos() == 0);
+    }
+}
@@ -0,0 +1,145 @@
+package mx.unam.ciencias.edd.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import mx.unam.ciencias.edd.Registros;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link Registros}.
+ */
+public class TestRegistros {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba y un número
+     * total de elementos.
+     */
+    public TestRegistros() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+    }
+
+    /**
+     * Prueba unitaria para {@link Registros#ordena(ByteBuffer,int,int,int)}
+     * con una llave entera sin signo en big-endian.
+     */
+    @Test public void testOrdenaBytes() {
+        int n = total * 10;
+        /* Registros de 12 bytes: índice, llave, y la llave negada. */
+        ByteBuffer b = ByteBuffer.allocateDirect(4 + n * 12 + 4);
+        long[] llaves = new long[n];
+        b.position(4);
+        for (int i = 0; i < n; i++) {
+            int llave = random.nextInt(total) * 0x1010101;
+            b.putInt(i).putInt(llave).putInt(~llave);
+            llaves[i] = Integer.toUnsignedLong(llave);
+        }
+        b.position(4).limit(4 + n * 12);
+        Registros.ordena(b, 12, 4, 4);
+        Assert.assertTrue(b.position() == 4);
+        Assert.assertTrue(b.limit() == 4 + n * 12);
+        Arrays.sort(llaves);
+        boolean[] vistos = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int p = 4 + i * 12;
+            int indice = b.getInt(p);
+            int llave = b.getInt(p + 4);
+            Assert.assertTrue(Integer.toUnsignedLong(llave) == llaves[i]);
+            Assert.assertTrue(b.getInt(p + 8) == ~llave);
+            Assert.assertFalse(vistos[indice]);
+            vistos[indice] = true;
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Registros#ordena(ByteBuffer,int,int,int)}
+     * con llaves de cadenas más largas que ocho bytes.
+     */
+    @Test public void testOrdenaCadenas() {
+        int n = total * 5;
+        String[] cadenas = new String[n];
+        ByteBuffer b = ByteBuffer.allocate(n * 11);
+        for (int i = 0; i < n; i++) {
+            cadenas[i] = String.format("%03d%08d", random.nextInt(3),
+                                       random.nextInt(total));
+            b.put(cadenas[i].getBytes(StandardCharsets.US_ASCII));
+        }
+        b.flip();
+        Registros.ordena(b, 11, 0, 11);
+        Arrays.sort(cadenas);
+        byte[] r = new byte[11];
+        for (int i = 0; i < n; i++) {
+            b.get(r);
+            Assert.assertTrue(cadenas[i].equals(
+                                  new String(r, StandardCharsets.US_ASCII)));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * Registros#ordena(ByteBuffer,int,mx.unam.ciencias.edd.LlaveRegistro)}.
+     */
+    @Test public void testOrdenaLlave() {
+        int n = total * 100;
+        long[] llaves = new long[n];
+        ByteBuffer b = ByteBuffer.allocateDirect(n * 9)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < n; i++) {
+            llaves[i] = random.nextLong();
+            b.put((byte)i).putLong(llaves[i]);
+        }
+        b.flip();
+        Registros.ordena(b, 9, (buffer, p) -> buffer.getLong(p + 1));
+        Arrays.sort(llaves);
+        for (int i = 0; i < n; i++)
+            Assert.assertTrue(b.getLong(i * 9 + 1) == llaves[i]);
+        /* Ya ordenado, en reversa y todos iguales. */
+        Registros.ordena(b, 9, (buffer, p) -> buffer.getLong(p + 1));
+        for (int i = 0; i < n; i++)
+            Assert.assertTrue(b.getLong(i * 9 + 1) == llaves[i]);
+        Registros.ordena(b, 9, (buffer, p) -> -buffer.getLong(p + 1));
+        for (int i = 0; i < n; i++)
+            Assert.assertTrue(b.getLong(i * 9 + 1) == llaves[n - 1 - i]);
+        Registros.ordena(b, 9, (buffer, p) -> 0);
+        Registros.ordena(ByteBuffer.allocate(0), 9, (buffer, p) -> 0);
+    }
+
+    /**
+     * Prueba unitaria para los argumentos inválidos de {@link
+     * Registros#ordena(ByteBuffer,int,int,int)}.
+     */
+    @Test public void testOrdenaInvalido() {
+        ByteBuffer b = ByteBuffer.allocate(total * 8);
+        try {
+            Registros.ordena(b, 0, 0, 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            Registros.ordena(b, 8, 4, 5);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            Registros.ordena(b.asReadOnlyBuffer(), 8, 0, 8);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        b.position(1);
+        try {
+            Registros.ordena(b, 8, 0, 8);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+}